@@ -1,6 +1,7 @@
 plugins {
     id("org.openrewrite.build.recipe-library") version "latest.release"
     id("org.openrewrite.build.moderne-source-available-license") version "latest.release"
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "org.openrewrite.recipe"
@@ -35,3 +36,21 @@ dependencies {
     testRuntimeOnly("net.sourceforge.htmlunit:htmlunit:2.+")
     testRuntimeOnly("org.slf4j:slf4j-simple:1.7.36")
 }
+
+val compileBomLookup by tasks.registering(JavaExec::class) {
+    description = "Compiles jenkins-plugins-bom-lookup.txt into the binary index loaded by BomLookup."
+    val lookup = file("src/main/resources/jenkins-plugins-bom-lookup.txt")
+    val outputDir = layout.buildDirectory.dir("generated/resources/bom-lookup")
+    inputs.file(lookup)
+    outputs.dir(outputDir)
+    // only the compiled classes, the resources depend on this task
+    classpath(sourceSets.main.flatMap { it.java.classesDirectory })
+    mainClass.set("org.openrewrite.jenkins.BomLookupCompiler")
+    argumentProviders.add(CommandLineArgumentProvider {
+        listOf(lookup.absolutePath, outputDir.get().file("jenkins-plugins-bom-lookup.idx").asFile.absolutePath)
+    })
+}
+
+sourceSets.main {
+    resources.srcDir(compileBomLookup)
+}
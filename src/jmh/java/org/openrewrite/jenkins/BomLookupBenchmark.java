@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.jenkins;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link BomLookup} with the {@code HashSet<String>} of concatenated coordinates it replaced.
+ * Half of the probed coordinates are in the bom, half are not.
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class BomLookupBenchmark {
+    private final BomLookup bomLookup = new BomLookup();
+    private final Set<String> concatenated = new HashSet<>();
+    private String[] groupIds;
+    private String[] artifactIds;
+
+    @Setup
+    public void setup() throws IOException {
+        List<String> groups = new ArrayList<>();
+        List<String> artifacts = new ArrayList<>();
+        try (InputStream is = BomLookup.class.getResourceAsStream("/jenkins-plugins-bom-lookup.txt");
+             BufferedReader br = new BufferedReader(new InputStreamReader(Objects.requireNonNull(is), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                String tidy = line.trim();
+                if (tidy.isEmpty()) {
+                    continue;
+                }
+                concatenated.add(tidy);
+                int colon = tidy.indexOf(':');
+                groups.add(tidy.substring(0, colon));
+                artifacts.add(tidy.substring(colon + 1));
+                groups.add(tidy.substring(0, colon));
+                artifacts.add(tidy.substring(colon + 1) + "-not-in-bom");
+            }
+        }
+        groupIds = groups.toArray(new String[0]);
+        artifactIds = artifacts.toArray(new String[0]);
+        bomLookup.inBom(groupIds[0], artifactIds[0]);
+    }
+
+    @Benchmark
+    public void hashSetOfConcatenatedCoordinates(Blackhole bh) {
+        for (int i = 0; i < groupIds.length; i++) {
+            bh.consume(concatenated.contains(groupIds[i] + ":" + artifactIds[i]));
+        }
+    }
+
+    @Benchmark
+    public void coordinateIndex(Blackhole bh) {
+        for (int i = 0; i < groupIds.length; i++) {
+            bh.consume(bomLookup.inBom(groupIds[i], artifactIds[i]));
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.jenkins;
+
+import org.openjdk.jmh.annotations.*;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.SourceFile;
+import org.openrewrite.groovy.GroovyParser;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jenkinsfiles parsed per second when building a {@link GroovyParser} for each one,
+ * as the Jenkinsfile recipes did, and when sharing one through {@link JenkinsfileParser}.
+ * Both actually parse; {@link #cacheHit()} measures a source already in {@link JenkinsfileParseCache}.
+ * The corpus is in {@code src/jmh/resources/jenkinsfiles}.
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class JenkinsfileParserBenchmark {
+    @Param({"buildPlugin", "buildPluginMinimal", "declarative", "scripted"})
+    String jenkinsfile;
+
+    String source;
+    ExecutionContext ctx;
+
+    @Setup
+    public void setup() throws IOException {
+        try (InputStream is = JenkinsfileParserBenchmark.class.getResourceAsStream("/jenkinsfiles/" + jenkinsfile + ".groovy")) {
+            if (is == null) {
+                throw new IllegalStateException("No Jenkinsfile named " + jenkinsfile);
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int n;
+            while ((n = is.read(buffer)) != -1) {
+                out.write(buffer, 0, n);
+            }
+            source = new String(out.toByteArray(), StandardCharsets.UTF_8);
+        }
+        ctx = new InMemoryExecutionContext();
+        JenkinsfileParser.of(ctx).parse(source);
+    }
+
+    @Benchmark
+    public Optional<SourceFile> parserPerFile() {
+        return GroovyParser.builder().build().parse(source).findFirst();
+    }
+
+    @Benchmark
+    public Optional<SourceFile> sharedParser() {
+        return JenkinsfileParser.of(ctx).parseUncached(source);
+    }
+
+    @Benchmark
+    public Optional<SourceFile> cacheHit() {
+        return JenkinsfileParser.of(ctx).parse(source);
+    }
+}
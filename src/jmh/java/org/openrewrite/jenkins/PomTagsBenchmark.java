@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.jenkins;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.jenkins.internal.PomTags;
+import org.openrewrite.xml.XPathMatcher;
+import org.openrewrite.xml.XmlIsoVisitor;
+import org.openrewrite.xml.XmlParser;
+import org.openrewrite.xml.tree.Xml;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading the project's artifactId and description from the direct children of
+ * {@code <project>} with visiting every tag of the pom, as the extractors {@link PomTags} replaced did.
+ * The pom has {@code dependencies} dependencies and as many build plugins, declared after the project's tags.
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PomTagsBenchmark {
+    private static final XPathMatcher PROJECT_ARTIFACT_ID = new XPathMatcher("/project/artifactId");
+    private static final XPathMatcher PROJECT_DESCRIPTION = new XPathMatcher("/project/description");
+
+    @Param({"20", "500"})
+    int dependencies;
+
+    private final ExecutionContext ctx = new InMemoryExecutionContext();
+    private Xml.Document pom;
+
+    @Setup
+    public void setup() {
+        StringBuilder sb = new StringBuilder()
+                .append("<project>\n")
+                .append("    <artifactId>big-plugin</artifactId>\n")
+                .append("    <description>A plugin with a lot of dependencies</description>\n")
+                .append("    <dependencies>\n");
+        for (int i = 0; i < dependencies; i++) {
+            sb.append("        <dependency>\n")
+                    .append("            <groupId>org.jenkins-ci.plugins</groupId>\n")
+                    .append("            <artifactId>dependency-").append(i).append("</artifactId>\n")
+                    .append("            <description>Dependency ").append(i).append("</description>\n")
+                    .append("        </dependency>\n");
+        }
+        sb.append("    </dependencies>\n")
+                .append("    <build>\n")
+                .append("        <plugins>\n");
+        for (int i = 0; i < dependencies; i++) {
+            sb.append("            <plugin>\n")
+                    .append("                <artifactId>maven-plugin-").append(i).append("</artifactId>\n")
+                    .append("            </plugin>\n");
+        }
+        sb.append("        </plugins>\n")
+                .append("    </build>\n")
+                .append("</project>\n");
+        pom = (Xml.Document) XmlParser.builder().build().parse(sb.toString()).findFirst().orElseThrow(IllegalStateException::new);
+    }
+
+    @Benchmark
+    public void fullTreeVisit(Blackhole bh) {
+        String[] tags = new String[2];
+        new XmlIsoVisitor<ExecutionContext>() {
+            @Override
+            public Xml.Tag visitTag(Xml.Tag tag, ExecutionContext ctx) {
+                Xml.Tag t = super.visitTag(tag, ctx);
+                if (PROJECT_ARTIFACT_ID.matches(getCursor())) {
+                    tags[0] = t.getValue().orElse("");
+                } else if (PROJECT_DESCRIPTION.matches(getCursor())) {
+                    tags[1] = t.getValue().orElse("");
+                }
+                return t;
+            }
+        }.visit(pom, ctx);
+        bh.consume(tags);
+    }
+
+    @Benchmark
+    public void directChildren(Blackhole bh) {
+        bh.consume(PomTags.of(pom));
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.jenkins;
+
+import org.openjdk.jmh.annotations.*;
+import org.openrewrite.Validated;
+import org.openrewrite.semver.Semver;
+import org.openrewrite.semver.VersionComparator;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares validating a version option on every visitor build, as {@link UpgradeVersionProperty} and
+ * {@link IsJenkinsPlugin} did, with looking it up in {@link SemverCache}.
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class SemverCacheBenchmark {
+    @Param({"[1,)", "2.375.1", "2.440.x"})
+    String versionSpec;
+
+    @Benchmark
+    public Validated<VersionComparator> semverValidate() {
+        return Semver.validate(versionSpec, null);
+    }
+
+    @Benchmark
+    public Validated<VersionComparator> semverCache() {
+        return SemverCache.validate(versionSpec);
+    }
+}
@@ -0,0 +1,34 @@
+pipeline {
+    agent {
+        label 'maven'
+    }
+    options {
+        timeout(time: 1, unit: 'HOURS')
+        buildDiscarder(logRotator(numToKeepStr: '10'))
+    }
+    environment {
+        MAVEN_OPTS = '-Xmx2g'
+    }
+    stages {
+        stage('Build') {
+            steps {
+                sh 'mvn -B -ntp clean verify'
+            }
+            post {
+                always {
+                    junit '**/target/surefire-reports/*.xml'
+                }
+            }
+        }
+        stage('Deploy') {
+            when {
+                branch 'main'
+            }
+            steps {
+                withCredentials([usernamePassword(credentialsId: 'deploy', usernameVariable: 'USER', passwordVariable: 'PASS')]) {
+                    sh 'mvn -B -ntp deploy -DskipTests'
+                }
+            }
+        }
+    }
+}
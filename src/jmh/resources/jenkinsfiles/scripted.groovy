@@ -0,0 +1,32 @@
+properties([buildDiscarder(logRotator(numToKeepStr: '5')), disableConcurrentBuilds()])
+
+def platforms = ['linux', 'windows']
+def branches = [:]
+
+for (int i = 0; i < platforms.size(); ++i) {
+    String platform = platforms[i]
+    branches[platform] = {
+        node(platform) {
+            stage("Checkout (${platform})") {
+                checkout scm
+            }
+            stage("Build (${platform})") {
+                timeout(60) {
+                    if (isUnix()) {
+                        sh 'mvn -B -ntp -Dmaven.test.failure.ignore verify'
+                    } else {
+                        bat 'mvn -B -ntp -Dmaven.test.failure.ignore verify'
+                    }
+                }
+            }
+            stage("Archive (${platform})") {
+                junit testResults: '**/target/surefire-reports/TEST-*.xml', allowEmptyResults: true
+                if (platform == 'linux') {
+                    archiveArtifacts artifacts: '**/target/*.hpi', fingerprint: true
+                }
+            }
+        }
+    }
+}
+
+parallel branches
@@ -17,24 +17,25 @@ package org.openrewrite.jenkins;
 
 import lombok.EqualsAndHashCode;
 import lombok.Value;
+import org.jspecify.annotations.Nullable;
 import org.openrewrite.ExecutionContext;
+import org.openrewrite.Option;
+import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
+import org.openrewrite.jenkins.table.PluginsBomLines;
 import org.openrewrite.marker.Markers;
 import org.openrewrite.maven.AddManagedDependency;
 import org.openrewrite.maven.ChangeManagedDependencyGroupIdAndArtifactId;
 import org.openrewrite.maven.MavenIsoVisitor;
-import org.openrewrite.maven.RemoveRedundantDependencyVersions;
 import org.openrewrite.maven.tree.*;
 import org.openrewrite.xml.RemoveContentVisitor;
 import org.openrewrite.xml.tree.Xml;
 
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
-
-import static java.util.Collections.emptyList;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.util.*;
 
 @EqualsAndHashCode(callSuper = false)
 @Value
@@ -45,6 +46,21 @@ public class AddPluginsBom extends Recipe {
     private static final String VERSION_METADATA_PATTERN = "\\.v[a-f0-9_]+";
     private static final String PLUGIN_BOMS_KEY = "pluginBoms";
     private static final String PLUGIN_BOM_NAME_KEY = "pluginBomName";
+    private static final String JENKINS_BASELINE_KEY = "jenkinsBaseline";
+    private static final String LINE_SOURCE_KEY = "lineSource";
+
+    transient PluginsBomLines pluginsBomLines = new PluginsBomLines(this);
+
+    @Option(displayName = "Offline bom versions",
+            description = "Path to a local snapshot of plugins BOM versions, one `bom-<line>.x <version>` per line, " +
+                    "optionally followed by the indented `groupId:artifactId <version>` entries each BOM manages. " +
+                    "When set, BOMs are pinned to the snapshot's versions instead of being resolved from `maven-metadata.xml`, " +
+                    "and a BOM whose line is not in the snapshot is neither added nor changed. " +
+                    "No such snapshot is bundled, so without it BOMs are resolved.",
+            example = "/opt/jenkins/bom-versions.txt",
+            required = false)
+    @Nullable
+    String offlineBomVersions;
 
     String displayName = "Add or correct Jenkins plugins BOM";
 
@@ -55,7 +71,8 @@ public class AddPluginsBom extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return new MavenIsoVisitor<ExecutionContext>() {
+        // only plugin poms get here, the precondition is the one check that the pom manages jenkins-core
+        return Preconditions.check(Jenkins.pluginPomPrecondition(), new MavenIsoVisitor<ExecutionContext>() {
             @Override
             public Xml.Document visitDocument(Xml.Document document, ExecutionContext ctx) {
                 Markers m = document.getMarkers();
@@ -63,9 +80,6 @@ public class AddPluginsBom extends Recipe {
                 if (!maybeMavenResult.isPresent()) {
                     return document;
                 }
-                if (Jenkins.isJenkinsPluginPom(document) == null) {
-                    return document;
-                }
                 MavenResolutionResult result = maybeMavenResult.get();
                 ResolvedPom resolvedPom = result.getPom();
                 Pom pom = resolvedPom.getRequested();
@@ -77,97 +91,207 @@ public class AddPluginsBom extends Recipe {
                         break;
                     }
                 }
-                boolean hasDependencyInBom = false;
-                List<Dependency> dependencies = pom.getDependencies();
-                for (Dependency dependency : dependencies) {
-                    String groupId = dependency.getGroupId();
-                    String version = dependency.getVersion();
-                    if (groupId == null || version == null) {
-                        continue;
-                    }
-                    if (LOOKUP.inBom(groupId, dependency.getArtifactId())) {
-                        hasDependencyInBom = true;
-                        doAfterVisit(new RemoveRedundantDependencyVersions(
-                                groupId,
-                                dependency.getArtifactId(),
-                                null,
-                                null).getVisitor());
-                    }
+                @Nullable PluginBoms pluginBoms = null;
+                if (bomFound) {
+                    pluginBoms = new PluginBoms();
+                    getCursor().putMessage(PLUGIN_BOMS_KEY, pluginBoms);
                 }
                 Xml.Document d = super.visitDocument(document, ctx);
                 String bomName = getCursor().getMessage(PLUGIN_BOM_NAME_KEY);
                 if (bomName == null) {
                     throw new IllegalStateException("Could not find jenkins.version property");
                 }
-                if (!bomFound && hasDependencyInBom) {
-                    return (Xml.Document) new AddManagedDependency(
+                // When the target line is known, from a snapshot or resolved earlier in the process,
+                // the bom is pinned to that version, so the versions it makes redundant can be decided
+                // without resolving it. The baseline is read from the property tag first, as a recipe
+                // that just upgraded it, such as UpgradeVersionProperty, leaves the resolved model stale.
+                String baseline = getCursor().getMessage(JENKINS_BASELINE_KEY);
+                if (baseline == null) {
+                    baseline = resolvedPom.getProperties().get("jenkins.baseline");
+                }
+                String resolvedBomName = bomName.replace("${jenkins.baseline}", String.valueOf(baseline));
+                ManagedVersions.Line line = line(resolvedBomName);
+                boolean bomVersionKnown = line != null || offlineBomVersions == null;
+                String bomVersion = line == null ? LATEST_RELEASE : line.getVersion();
+                String bomVersionPattern = line == null ? VERSION_METADATA_PATTERN : null;
+                String lineSource = getCursor().getMessage(LINE_SOURCE_KEY, "cache");
+                if (line == null) {
+                    lineSource = bomVersionKnown ? LATEST_RELEASE : "unknown";
+                }
+                BomLineCache cache = BomLineCache.INSTANCE;
+                pluginsBomLines.insertRow(ctx, new PluginsBomLines.Row(
+                        document.getSourcePath().toString(),
+                        resolvedBomName,
+                        lineSource,
+                        cache.getHits(),
+                        cache.getMisses(),
+                        cache.getEvictions()));
+                boolean hasDependencyInBom = false;
+                Set<GroupArtifact> redundantVersions = new HashSet<>();
+                Map<GroupArtifact, String> redundantLineVersions = new HashMap<>();
+                List<Dependency> dependencies = pom.getDependencies();
+                if (!bomFound && line != null && line.size() > 0) {
+                    for (Dependency dependency : dependencies) {
+                        String groupId = dependency.getGroupId();
+                        String version = dependency.getVersion();
+                        if (groupId == null || version == null) {
+                            continue;
+                        }
+                        String managedVersion = line.managedVersion(groupId, dependency.getArtifactId());
+                        if (managedVersion != null) {
+                            hasDependencyInBom = true;
+                            if (managedVersion.equals(resolvedPom.getValue(version))) {
+                                redundantLineVersions.put(dependency.getGav().asGroupArtifact(), managedVersion);
+                            }
+                        }
+                    }
+                } else {
+                    BitSet inBom = LOOKUP.inBom(dependencies);
+                    for (int i = inBom.nextSetBit(0); i >= 0; i = inBom.nextSetBit(i + 1)) {
+                        Dependency dependency = dependencies.get(i);
+                        if (dependency.getVersion() != null) {
+                            hasDependencyInBom = true;
+                            redundantVersions.add(dependency.getGav().asGroupArtifact());
+                        }
+                    }
+                }
+                if (!redundantVersions.isEmpty()) {
+                    // one walk for all of them rather than one per dependency
+                    doAfterVisit(new RemoveRedundantBomVersions(redundantVersions));
+                }
+                if (!redundantLineVersions.isEmpty()) {
+                    // the line tells which versions the pinned bom manages, there is no need to resolve it
+                    doAfterVisit(new RemoveRedundantBomVersions(redundantLineVersions));
+                }
+                if (!bomFound && hasDependencyInBom && bomVersionKnown) {
+                    Xml.Document added = (Xml.Document) new AddManagedDependency(
                             PLUGINS_BOM_GROUP_ID,
                             bomName,
-                            LATEST_RELEASE,
+                            bomVersion,
                             "import",
                             "pom",
                             null,
-                            VERSION_METADATA_PATTERN,
+                            bomVersionPattern,
                             true,
                             null,
                             null
                     ).getVisitor().visitNonNull(d, ctx, getCursor().getParentOrThrow());
+                    if (line == null) {
+                        // let the next pom on this line skip resolving latest.release
+                        added.getMarkers().findFirst(MavenResolutionResult.class).ifPresent(resolved ->
+                                BomLineCache.INSTANCE.remember(PLUGINS_BOM_GROUP_ID, resolvedBomName, resolved.getPom()));
+                    }
+                    return added;
                 }
-                if (bomFound) {
-                    Xml.Tag exact = null;
-                    Xml.Tag change = null;
-                    List<Xml.Tag> pluginBoms = getCursor().getMessage(PLUGIN_BOMS_KEY, emptyList());
-                    for (Xml.Tag bom : pluginBoms) {
-                        String artifactId = bom.getChildValue("artifactId")
-                                .orElseThrow(() -> new IllegalStateException("No artifactId found on bom"));
-                        if (artifactId.equals(bomName) && exact == null) {
-                            exact = bom;
-                        } else if (change == null) {
-                            change = bom;
+                // a bom whose line is unknown offline is left as it is, and so are the others beside it
+                if (pluginBoms != null && bomVersionKnown) {
+                    int exact = pluginBoms.indexOf(bomName);
+                    int change = -1;
+                    for (int i = 0; i < pluginBoms.size(); i++) {
+                        if (i == exact) {
+                            continue;
+                        }
+                        if (change < 0) {
+                            change = i;
                         } else {
-                            doAfterVisit(new RemoveContentVisitor<>(bom, true, true));
+                            doAfterVisit(new RemoveContentVisitor<>(pluginBoms.tag(i), true, true));
                         }
                     }
-                    if (exact != null && change != null) {
-                        doAfterVisit(new RemoveContentVisitor<>(change, true, true));
-                    } else if (change != null) {
-                        String artifactId = change.getChildValue("artifactId")
-                                .orElseThrow(() -> new IllegalStateException("No artifactId found on bom"));
+                    if (exact >= 0 && change >= 0) {
+                        doAfterVisit(new RemoveContentVisitor<>(pluginBoms.tag(change), true, true));
+                    } else if (change >= 0) {
                         doAfterVisit(new ChangeManagedDependencyGroupIdAndArtifactId(
                                 PLUGINS_BOM_GROUP_ID,
-                                artifactId,
+                                pluginBoms.artifactId(change),
                                 PLUGINS_BOM_GROUP_ID,
                                 bomName,
-                                LATEST_RELEASE,
-                                VERSION_METADATA_PATTERN
+                                bomVersion,
+                                bomVersionPattern
                         ).getVisitor());
                     }
                 }
                 return d;
             }
 
+            /**
+             * @return the line, where it came from is left in a cursor message for the data table
+             */
+            private ManagedVersions.@Nullable Line line(String bomName) {
+                if (offlineBomVersions != null) {
+                    try {
+                        ManagedVersions.Line line = ManagedVersions.readFile(Paths.get(offlineBomVersions)).line(bomName);
+                        if (line != null) {
+                            getCursor().putMessage(LINE_SOURCE_KEY, "offline");
+                            return line;
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("Unable to read offline bom versions from " + offlineBomVersions, e);
+                    }
+                }
+                ManagedVersions.Line line = LOOKUP.line(bomName);
+                if (line != null) {
+                    getCursor().putMessage(LINE_SOURCE_KEY, "lookup");
+                    return line;
+                }
+                return BomLineCache.INSTANCE.get(bomName);
+            }
+
             @Override
             public Xml.Tag visitTag(Xml.Tag tag, ExecutionContext ctx) {
                 Xml.Tag t = super.visitTag(tag, ctx);
                 if (isManagedDependencyTag()) {
-                    String groupId = tag.getChildValue("groupId").orElse("");
+                    PluginBoms pluginBoms = getCursor().getNearestMessage(PLUGIN_BOMS_KEY);
                     String artifactId = tag.getChildValue("artifactId").orElse("");
-                    if ("bom-${jenkins.baseline}.x".equals(artifactId)) {
-                        artifactId = "bom-" + getResolutionResult().getPom().getProperties().get("jenkins.baseline") + ".x";
-                    }
-                    if (PLUGINS_BOM_GROUP_ID.equals(groupId) && !artifactId.isEmpty()) {
-                        List<Xml.Tag> pluginBoms = getCursor().getNearestMessage(PLUGIN_BOMS_KEY, new LinkedList<>());
-                        pluginBoms.add(t);
-                        getCursor().putMessageOnFirstEnclosing(Xml.Document.class, PLUGIN_BOMS_KEY, pluginBoms);
+                    if (pluginBoms != null && !artifactId.isEmpty() &&
+                        PLUGINS_BOM_GROUP_ID.equals(tag.getChildValue("groupId").orElse(""))) {
+                        pluginBoms.add(artifactId, t);
                     }
                 } else if (isPropertyTag() && Objects.equals("jenkins.version", t.getName())) {
                     String jenkinsVersion = t.getValue().orElseThrow(() ->
                             new IllegalStateException("No value found for jenkins.version property tag"));
                     String bomName = Jenkins.bomNameForJenkinsVersion(jenkinsVersion);
                     getCursor().putMessageOnFirstEnclosing(Xml.Document.class, PLUGIN_BOM_NAME_KEY, bomName);
+                } else if (isPropertyTag() && Objects.equals("jenkins.baseline", t.getName())) {
+                    t.getValue().ifPresent(baseline ->
+                            getCursor().putMessageOnFirstEnclosing(Xml.Document.class, JENKINS_BASELINE_KEY, baseline));
                 }
                 return t;
             }
-        };
+        });
+    }
+
+    /**
+     * The plugins boms imported by a pom, in declaration order, with the first import of each artifactId indexed.
+     */
+    private static class PluginBoms {
+        private final List<String> artifactIds = new ArrayList<>(2);
+        private final List<Xml.Tag> tags = new ArrayList<>(2);
+        private final Map<String, Integer> firstByArtifactId = new HashMap<>(4);
+
+        void add(String artifactId, Xml.Tag tag) {
+            firstByArtifactId.putIfAbsent(artifactId, tags.size());
+            artifactIds.add(artifactId);
+            tags.add(tag);
+        }
+
+        /**
+         * @return the position of the first import of the bom, or -1 if it is not imported
+         */
+        int indexOf(String artifactId) {
+            Integer i = firstByArtifactId.get(artifactId);
+            return i == null ? -1 : i;
+        }
+
+        int size() {
+            return tags.size();
+        }
+
+        String artifactId(int i) {
+            return artifactIds.get(i);
+        }
+
+        Xml.Tag tag(int i) {
+            return tags.get(i);
+        }
     }
 }
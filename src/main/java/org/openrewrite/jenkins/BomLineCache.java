@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.jenkins;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.maven.tree.ResolvedGroupArtifactVersion;
+import org.openrewrite.maven.tree.ResolvedManagedDependency;
+import org.openrewrite.maven.tree.ResolvedPom;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Remembers, across recipe runs in the same process, the version each plugins bom line resolved
+ * to and the versions it manages, so a batch of repositories resolves {@code latest.release} of a
+ * line once rather than once per repository.
+ * <p>
+ * Lines are kept for a limited time so a long-lived process eventually sees new bom releases,
+ * and the least recently used line is evicted when the cache is full.
+ */
+final class BomLineCache {
+    static final BomLineCache INSTANCE = new BomLineCache(64, TimeUnit.HOURS.toMillis(6), System::currentTimeMillis);
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+    private final LinkedHashMap<String, Entry> lines = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    BomLineCache(int maxSize, long ttlMillis, LongSupplier clock) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * @param bomArtifactId artifactId of the bom with any baseline property resolved, such as {@code bom-2.452.x}
+     * @return the line as last resolved, or null if it isn't known or has expired
+     */
+    synchronized ManagedVersions.@Nullable Line get(String bomArtifactId) {
+        Entry entry = lines.get(bomArtifactId);
+        if (entry != null && clock.getAsLong() - entry.storedAt >= ttlMillis) {
+            lines.remove(bomArtifactId);
+            evictions++;
+            entry = null;
+        }
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.line;
+    }
+
+    synchronized void put(ManagedVersions.Line line) {
+        lines.put(line.getArtifactId(), new Entry(line, clock.getAsLong()));
+        Iterator<Entry> eldest = lines.values().iterator();
+        while (lines.size() > maxSize) {
+            eldest.next();
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    /**
+     * Remembers the line of a bom as it was resolved into a pom importing it.
+     *
+     * @param groupId    groupId of the bom
+     * @param artifactId artifactId of the bom
+     * @param pom        a pom importing the bom
+     */
+    void remember(String groupId, String artifactId, ResolvedPom pom) {
+        ManagedVersions.@Nullable LineBuilder builder = null;
+        for (ResolvedManagedDependency managed : pom.getDependencyManagement()) {
+            ResolvedGroupArtifactVersion bom = managed.getBomGav();
+            if (bom == null || !groupId.equals(bom.getGroupId()) || !artifactId.equals(bom.getArtifactId()) ||
+                bom.getVersion().startsWith("latest.")) {
+                continue;
+            }
+            if (builder == null) {
+                builder = new ManagedVersions.LineBuilder(artifactId, bom.getVersion());
+            }
+            builder.add(managed.getGroupId() + ":" + managed.getArtifactId(), managed.getVersion());
+        }
+        if (builder != null) {
+            put(builder.build());
+        }
+    }
+
+    /**
+     * Forgets every line and resets the counters.
+     */
+    synchronized void clear() {
+        lines.clear();
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+    }
+
+    synchronized long getHits() {
+        return hits;
+    }
+
+    synchronized long getMisses() {
+        return misses;
+    }
+
+    synchronized long getEvictions() {
+        return evictions;
+    }
+
+    synchronized int size() {
+        return lines.size();
+    }
+
+    private static class Entry {
+        private final ManagedVersions.Line line;
+        private final long storedAt;
+
+        Entry(ManagedVersions.Line line, long storedAt) {
+            this.line = line;
+            this.storedAt = storedAt;
+        }
+    }
+}
@@ -15,27 +15,49 @@
  */
 package org.openrewrite.jenkins;
 
-import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.maven.tree.Dependency;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
-import java.util.HashSet;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.util.BitSet;
 import java.util.List;
-import java.util.Objects;
-import java.util.Set;
-
-import static java.util.stream.Collectors.toList;
 
 /**
  * A registry of versions that are supplied by the bom.
  * Versions supplied by the pom can be removed from the dependency declarations.
+ * <p>
+ * The data comes from a {@link BomLookupSource}. By default that is the classpath, or the local
+ * file or directory named by the {@value #SOURCE_PROPERTY} system property, which is watched for changes.
  */
-@Getter
 class BomLookup {
-    private final Set<String> artifactsInBom = new HashSet<>();
+    static final String LOOKUP_RESOURCE = "/jenkins-plugins-bom-lookup.txt";
+
+    /**
+     * Binary form of {@link #LOOKUP_RESOURCE} generated at build time by {@link BomLookupCompiler}.
+     */
+    static final String INDEX_RESOURCE = "/jenkins-plugins-bom-lookup.idx";
+
+    /**
+     * Managed versions per bom line, see {@link ManagedVersions}. Not bundled, only read from a lookup directory.
+     */
+    static final String VERSIONS_RESOURCE = "/jenkins-plugins-bom-versions.txt";
+
+    /**
+     * System property naming a local bom lookup file or directory to use instead of the classpath.
+     */
+    static final String SOURCE_PROPERTY = "org.openrewrite.jenkins.bomLookup";
+
+    private final BomLookupSource source;
+
+    BomLookup() {
+        this(DefaultSource.INSTANCE);
+    }
+
+    BomLookup(BomLookupSource source) {
+        this.source = source;
+    }
 
     /**
      * Checks if the bom contains a version for the dependency.
@@ -45,30 +67,60 @@ class BomLookup {
      * @return true if version can be dropped from dependency
      */
     public boolean inBom(String groupId, String artifactId) {
-        if (artifactsInBom.isEmpty()) {
-            init();
+        return source.snapshot().getArtifactsInBom().contains(groupId, artifactId);
+    }
+
+    /**
+     * Checks a whole dependency list against one snapshot of the bom.
+     * Consecutive dependencies sharing a groupId, the common case in a POM, intern it only once.
+     *
+     * @param dependencies dependencies to check
+     * @return the positions in the list of dependencies whose version can be dropped
+     */
+    public BitSet inBom(List<Dependency> dependencies) {
+        CoordinateIndex artifactsInBom = source.snapshot().getArtifactsInBom();
+        BitSet inBom = new BitSet(dependencies.size());
+        @Nullable String lastGroupId = null;
+        int group = 0;
+        for (int i = 0; i < dependencies.size(); i++) {
+            Dependency dependency = dependencies.get(i);
+            String groupId = dependency.getGroupId();
+            if (groupId == null) {
+                continue;
+            }
+            if (!groupId.equals(lastGroupId)) {
+                group = artifactsInBom.groupId(groupId);
+                lastGroupId = groupId;
+            }
+            if (group != 0 && artifactsInBom.contains(group, dependency.getArtifactId())) {
+                inBom.set(i);
+            }
         }
-        return artifactsInBom.contains(groupId + ":" + artifactId);
+        return inBom;
     }
 
-    private void init() {
-        try (InputStream is = BomLookup.class.getResourceAsStream("/jenkins-plugins-bom-lookup.txt")) {
-            Objects.requireNonNull(is);
-            try (BufferedReader br = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
-                List<String> groupArtifacts = br.lines().collect(toList());
-                for (String groupArtifact : groupArtifacts) {
-                    if (groupArtifact == null) {
-                        continue;
-                    }
-                    String tidy = groupArtifact.trim();
-                    if (tidy.isEmpty()) {
-                        continue;
-                    }
-                    artifactsInBom.add(tidy);
-                }
+    /**
+     * @param bomArtifactId artifactId of the bom, such as {@code bom-2.452.x}
+     * @return the versions managed by that bom, or null if they are not known offline,
+     * which is always the case unless the lookup comes from a directory holding a per-line table
+     */
+    public ManagedVersions.@Nullable Line line(String bomArtifactId) {
+        return source.snapshot().getManagedVersions().line(bomArtifactId);
+    }
+
+    private static final class DefaultSource {
+        static final BomLookupSource INSTANCE = create();
+
+        private static BomLookupSource create() {
+            String path = System.getProperty(SOURCE_PROPERTY);
+            if (path == null || path.trim().isEmpty()) {
+                return ClasspathBomLookupSource.INSTANCE;
+            }
+            try {
+                return FileBomLookupSource.watching(Paths.get(path.trim()));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to read bom lookup from " + path, e);
             }
-        } catch (IOException e) {
-            throw new RuntimeException(e);
         }
     }
 }
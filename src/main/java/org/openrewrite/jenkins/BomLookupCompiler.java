@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.jenkins;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Build time entry point that compiles the text bom lookup into the binary
+ * {@link CoordinateIndex} loaded by {@link BomLookup}.
+ * Invoked by the {@code compileBomLookup} Gradle task.
+ */
+class BomLookupCompiler {
+
+    /**
+     * @param args the text lookup to read and the binary index to write
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: BomLookupCompiler <lookup.txt> <lookup.idx>");
+        }
+        Path output = Paths.get(args[1]);
+        CoordinateIndex index;
+        try (InputStream is = Files.newInputStream(Paths.get(args[0]))) {
+            index = CoordinateIndex.readText(is);
+        }
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        try (OutputStream os = Files.newOutputStream(output)) {
+            index.write(os);
+        }
+    }
+}
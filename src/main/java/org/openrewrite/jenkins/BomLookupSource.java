@@ -0,0 +1,34 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.jenkins;
+
+import lombok.Value;
+
+/**
+ * Supplies the bom data read by {@link BomLookup}.
+ * Implementations hand out immutable snapshots, replacing them as a whole when the data changes,
+ * so a lookup that reads one snapshot sees a consistent view without locking.
+ */
+interface BomLookupSource {
+
+    Snapshot snapshot();
+
+    @Value
+    class Snapshot {
+        CoordinateIndex artifactsInBom;
+        ManagedVersions managedVersions;
+    }
+}
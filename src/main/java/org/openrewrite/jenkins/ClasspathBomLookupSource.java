@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.jenkins;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+
+/**
+ * The bom data bundled with this library.
+ * The resources are parsed once, when this class is initialized, so the snapshot is
+ * read exactly once per JVM and safely published to every thread.
+ * <p>
+ * No per-line table of managed versions is bundled. It would be stale with every bom release,
+ * so it is only ever supplied by the user, see {@link FileBomLookupSource} and {@link AddPluginsBom}.
+ */
+final class ClasspathBomLookupSource implements BomLookupSource {
+    static final ClasspathBomLookupSource INSTANCE = new ClasspathBomLookupSource();
+
+    private static final Snapshot SNAPSHOT = new Snapshot(loadArtifactsInBom(), ManagedVersions.EMPTY);
+
+    private ClasspathBomLookupSource() {
+    }
+
+    @Override
+    public Snapshot snapshot() {
+        return SNAPSHOT;
+    }
+
+    private static CoordinateIndex loadArtifactsInBom() {
+        try (InputStream idx = BomLookup.class.getResourceAsStream(BomLookup.INDEX_RESOURCE)) {
+            if (idx != null) {
+                return CoordinateIndex.read(idx);
+            }
+            // not compiled, e.g. when running from an IDE that skips the Gradle task
+            try (InputStream txt = BomLookup.class.getResourceAsStream(BomLookup.LOOKUP_RESOURCE)) {
+                return CoordinateIndex.readText(Objects.requireNonNull(txt));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,351 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.jenkins;
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * An immutable set of groupId:artifactId coordinates.
+ * GroupIds and artifactIds are interned into dense int ids and each pair is packed
+ * into a single long, placed by a perfect hash so a lookup probes exactly one slot.
+ * Lookups do not allocate.
+ * <p>
+ * The index can be written to a compact binary form holding the sorted coordinates and
+ * the perfect hash displacements, which {@link #read(InputStream)} loads without rehashing.
+ */
+final class CoordinateIndex {
+    private static final int MAGIC = 0x4A424F4D;
+    private static final int FORMAT_VERSION = 1;
+    private static final long EMPTY = 0L;
+    private static final int MAX_DISPLACEMENT = 1 << 16;
+
+    private final String[] groups;
+    private final String[] artifacts;
+    private final Map<String, Integer> groupIds;
+    private final Map<String, Integer> artifactIds;
+    private final long[] keys;
+    private final int[] displacements;
+    private final long[] slots;
+    private final int[] ordinals;
+
+    /**
+     * @param groups        groupIds in id order, id {@code i} is at index {@code i - 1}
+     * @param artifacts     artifactIds in id order, id {@code i} is at index {@code i - 1}
+     * @param keys          sorted packed coordinates
+     * @param displacements perfect hash displacement of each bucket
+     * @param slotCount     power of two number of slots the displacements were computed for
+     */
+    private CoordinateIndex(String[] groups, String[] artifacts, long[] keys, int[] displacements, int slotCount) {
+        this.groups = groups;
+        this.artifacts = artifacts;
+        this.groupIds = ids(groups);
+        this.artifactIds = ids(artifacts);
+        this.keys = keys;
+        this.displacements = displacements;
+        this.slots = new long[slotCount];
+        this.ordinals = new int[slotCount];
+        for (int i = 0; i < keys.length; i++) {
+            int slot = slot(keys[i], displacements, slotCount);
+            if (slots[slot] != EMPTY) {
+                throw new IllegalStateException("Displacements do not form a perfect hash");
+            }
+            slots[slot] = keys[i];
+            ordinals[slot] = i;
+        }
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @param groupId    dependency's groupId
+     * @param artifactId dependency's artifactId
+     * @return true if the coordinate is in the index
+     */
+    boolean contains(String groupId, String artifactId) {
+        return indexOf(groupId, artifactId) >= 0;
+    }
+
+    /**
+     * @param groupId    dependency's groupId
+     * @param artifactId dependency's artifactId
+     * @return the position of the coordinate in sorted order, or -1 if it is not in the index
+     */
+    int indexOf(String groupId, String artifactId) {
+        return indexOf(groupId(groupId), artifactId);
+    }
+
+    /**
+     * Interns the groupId once for probing several artifactIds of the same group.
+     *
+     * @return the id of the groupId, or 0 if no coordinate in the index has it
+     */
+    int groupId(String groupId) {
+        Integer group = groupIds.get(groupId);
+        return group == null ? 0 : group;
+    }
+
+    /**
+     * @param groupId    id returned by {@link #groupId(String)}
+     * @param artifactId dependency's artifactId
+     * @return true if the coordinate is in the index
+     */
+    boolean contains(int groupId, String artifactId) {
+        return indexOf(groupId, artifactId) >= 0;
+    }
+
+    private int indexOf(int group, String artifactId) {
+        if (group == 0) {
+            return -1;
+        }
+        Integer artifact = artifactIds.get(artifactId);
+        if (artifact == null) {
+            return -1;
+        }
+        long key = pack(group, artifact);
+        int slot = slot(key, displacements, slots.length);
+        return slots[slot] == key ? ordinals[slot] : -1;
+    }
+
+    int size() {
+        return keys.length;
+    }
+
+    /**
+     * Reads the text form: one groupId:artifactId per line, blank lines are ignored.
+     */
+    static CoordinateIndex readText(InputStream is) throws IOException {
+        Builder builder = builder();
+        BufferedReader br = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8));
+        String line;
+        while ((line = br.readLine()) != null) {
+            String tidy = line.trim();
+            if (!tidy.isEmpty()) {
+                builder.add(tidy);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Reads the binary form written by {@link #write(OutputStream)}.
+     */
+    static CoordinateIndex read(InputStream is) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(is, 1 << 16));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a coordinate index");
+        }
+        int version = in.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported coordinate index version " + version);
+        }
+        String[] groups = readStrings(in);
+        String[] artifacts = readStrings(in);
+        long[] keys = new long[in.readInt()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = in.readLong();
+        }
+        int[] displacements = new int[in.readInt()];
+        for (int i = 0; i < displacements.length; i++) {
+            displacements[i] = in.readInt();
+        }
+        int slotCount = in.readInt();
+        return new CoordinateIndex(groups, artifacts, keys, displacements, slotCount);
+    }
+
+    void write(OutputStream os) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os));
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        writeStrings(out, groups);
+        writeStrings(out, artifacts);
+        out.writeInt(keys.length);
+        for (long key : keys) {
+            out.writeLong(key);
+        }
+        out.writeInt(displacements.length);
+        for (int displacement : displacements) {
+            out.writeInt(displacement);
+        }
+        out.writeInt(slots.length);
+        out.flush();
+    }
+
+    private static String[] readStrings(DataInputStream in) throws IOException {
+        String[] strings = new String[in.readInt()];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = in.readUTF();
+        }
+        return strings;
+    }
+
+    private static void writeStrings(DataOutputStream out, String[] strings) throws IOException {
+        out.writeInt(strings.length);
+        for (String s : strings) {
+            out.writeUTF(s);
+        }
+    }
+
+    private static Map<String, Integer> ids(String[] strings) {
+        Map<String, Integer> ids = new HashMap<>((int) (strings.length / 0.75f) + 1);
+        for (int i = 0; i < strings.length; i++) {
+            ids.put(strings[i], i + 1);
+        }
+        return ids;
+    }
+
+    private static long pack(int groupId, int artifactId) {
+        return ((long) groupId << 32) | (artifactId & 0xFFFFFFFFL);
+    }
+
+    private static int bucket(long key, int bucketCount) {
+        return (int) (mix(key, 0) >>> 32) & (bucketCount - 1);
+    }
+
+    private static int slot(long key, int[] displacements, int slotCount) {
+        return (int) mix(key, displacements[bucket(key, displacements.length)]) & (slotCount - 1);
+    }
+
+    private static long mix(long key, int seed) {
+        long h = key + seed * 0x9E3779B97F4A7C15L;
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        return h ^ (h >>> 31);
+    }
+
+    private static int powerOfTwoAtLeast(int n) {
+        return n <= 1 ? 1 : Integer.highestOneBit(n - 1) << 1;
+    }
+
+    static class Builder {
+        private final Map<String, Integer> groupIds = new HashMap<>();
+        private final Map<String, Integer> artifactIds = new HashMap<>();
+        private final Set<String> coordinates = new HashSet<>();
+        private final List<String[]> pairs = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * @param coordinate groupId:artifactId
+         */
+        Builder add(String coordinate) {
+            int colon = coordinate.indexOf(':');
+            if (colon <= 0 || colon == coordinate.length() - 1) {
+                throw new IllegalArgumentException("Expected groupId:artifactId but was " + coordinate);
+            }
+            return add(coordinate.substring(0, colon), coordinate.substring(colon + 1));
+        }
+
+        Builder add(String groupId, String artifactId) {
+            if (coordinates.add(groupId + ":" + artifactId)) {
+                groupIds.put(groupId, 0);
+                artifactIds.put(artifactId, 0);
+                pairs.add(new String[]{groupId, artifactId});
+            }
+            return this;
+        }
+
+        CoordinateIndex build() {
+            // sorted interning makes the packed keys sort in coordinate order
+            String[] groups = intern(groupIds);
+            String[] artifacts = intern(artifactIds);
+            long[] keys = new long[pairs.size()];
+            for (int i = 0; i < keys.length; i++) {
+                String[] pair = pairs.get(i);
+                keys[i] = pack(groupIds.get(pair[0]), artifactIds.get(pair[1]));
+            }
+            Arrays.sort(keys);
+
+            int slotCount = powerOfTwoAtLeast(keys.length * 2);
+            while (true) {
+                int[] displacements = displace(keys, slotCount);
+                if (displacements != null) {
+                    return new CoordinateIndex(groups, artifacts, keys, displacements, slotCount);
+                }
+                slotCount <<= 1;
+            }
+        }
+
+        private static String[] intern(Map<String, Integer> ids) {
+            String[] sorted = ids.keySet().toArray(new String[0]);
+            Arrays.sort(sorted);
+            for (int i = 0; i < sorted.length; i++) {
+                ids.put(sorted[i], i + 1);
+            }
+            return sorted;
+        }
+
+        /**
+         * Hash and displace: buckets are placed largest first, each searching for the
+         * first displacement that moves all of its keys into free slots.
+         *
+         * @return the displacement of each bucket, or null if a bucket could not be placed
+         */
+        private static int @Nullable [] displace(long[] keys, int slotCount) {
+            int bucketCount = powerOfTwoAtLeast(Math.max(1, keys.length / 2));
+            List<List<Long>> buckets = new ArrayList<>(bucketCount);
+            for (int i = 0; i < bucketCount; i++) {
+                buckets.add(new ArrayList<>(2));
+            }
+            for (long key : keys) {
+                buckets.get(bucket(key, bucketCount)).add(key);
+            }
+            Integer[] order = new Integer[bucketCount];
+            for (int i = 0; i < bucketCount; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> buckets.get(b).size() - buckets.get(a).size());
+
+            int[] displacements = new int[bucketCount];
+            boolean[] taken = new boolean[slotCount];
+            int[] placed = new int[keys.length];
+            for (int b : order) {
+                List<Long> bucket = buckets.get(b);
+                if (bucket.isEmpty()) {
+                    break;
+                }
+                int displacement = 1;
+                search:
+                while (true) {
+                    if (displacement > MAX_DISPLACEMENT) {
+                        return null;
+                    }
+                    for (int i = 0; i < bucket.size(); i++) {
+                        int slot = (int) mix(bucket.get(i), displacement) & (slotCount - 1);
+                        if (taken[slot]) {
+                            for (int j = 0; j < i; j++) {
+                                taken[placed[j]] = false;
+                            }
+                            displacement++;
+                            continue search;
+                        }
+                        taken[slot] = true;
+                        placed[i] = slot;
+                    }
+                    break;
+                }
+                displacements[b] = displacement;
+            }
+            return displacements;
+        }
+    }
+}
@@ -19,7 +19,7 @@ import lombok.Getter;
 import lombok.Value;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
-import org.openrewrite.maven.MavenIsoVisitor;
+import org.openrewrite.jenkins.internal.PomTags;
 import org.openrewrite.text.PlainText;
 import org.openrewrite.text.PlainTextParser;
 import org.openrewrite.xml.tree.Xml;
@@ -27,6 +27,7 @@ import org.openrewrite.xml.tree.Xml;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Objects.requireNonNull;
 
@@ -50,9 +51,12 @@ public class CreateIndexJelly extends ScanningRecipe<CreateIndexJelly.Scanned> {
 
     @Override
     public Collection<PlainText> generate(Scanned acc, ExecutionContext ctx) {
-        List<PlainText> generated = new LinkedList<>();
+        List<PlainText> generated = new ArrayList<>();
         PlainTextParser parser = new PlainTextParser();
-        for (DescribedPlugin plugin : acc.plugins) {
+        // the scan may have run in any order, sort so the generated files don't depend on it
+        List<DescribedPlugin> plugins = new ArrayList<>(acc.plugins);
+        plugins.sort(Comparator.comparing(DescribedPlugin::getIndexJellyPath));
+        for (DescribedPlugin plugin : plugins) {
             if (acc.indexJellies.contains(plugin.indexJellyPath)) {
                 continue;
             }
@@ -73,14 +77,12 @@ public class CreateIndexJelly extends ScanningRecipe<CreateIndexJelly.Scanned> {
                 String fileName = path.getFileName().toString();
                 if ("index.jelly".equals(fileName)) {
                     acc.indexJellies.add(path.toString());
-                } else if (Jenkins.isJenkinsPluginPom(sourceFile) != null) {
-                    Xml.Document pom = (Xml.Document) sourceFile;
-                    TagExtractor tags = new TagExtractor();
-                    tags.visit(pom, ctx);
+                } else if (Jenkins.isJenkinsPluginPom(sourceFile, ctx) != null) {
+                    PomTags tags = PomTags.of((Xml.Document) sourceFile);
                     acc.plugins.add(new DescribedPlugin(
-                            tags.artifactId,
+                            tags.getArtifactId(),
                             path.resolve("../src/main/resources/index.jelly").normalize().toString(),
-                            tags.description
+                            tags.getDescription()
                     ));
                 }
                 return sourceFile;
@@ -103,24 +105,18 @@ public class CreateIndexJelly extends ScanningRecipe<CreateIndexJelly.Scanned> {
         }
     }
 
+    /**
+     * Safe to share between scanners running on several source files at once.
+     * Scanners may also each fill their own and {@link #merge(Scanned)} them afterward.
+     */
     static class Scanned {
-        Set<String> indexJellies = new HashSet<>();
-        Set<DescribedPlugin> plugins = new HashSet<>();
-    }
-
-    private static class TagExtractor extends MavenIsoVisitor<ExecutionContext> {
-        private String artifactId = "";
-        private String description = "";
+        final Set<String> indexJellies = ConcurrentHashMap.newKeySet();
+        final Set<DescribedPlugin> plugins = ConcurrentHashMap.newKeySet();
 
-        @Override
-        public Xml.Tag visitTag(Xml.Tag tag, ExecutionContext ctx) {
-            Xml.Tag t = super.visitTag(tag, ctx);
-            if ("description".equals(t.getName())) {
-                description = t.getValue().orElse("");
-            } else if ("artifactId".equals(t.getName()) && !isManagedDependencyTag() && !isDependencyTag()) {
-                artifactId = t.getValue().orElseThrow(() -> new IllegalStateException("Expected to find an artifact id"));
-            }
-            return t;
+        Scanned merge(Scanned other) {
+            indexJellies.addAll(other.indexJellies);
+            plugins.addAll(other.plugins);
+            return this;
         }
     }
 }
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.jenkins;
+
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+/**
+ * Bom data read from a local mirror instead of the classpath.
+ * <p>
+ * The path is either a lookup file, {@code .txt} or compiled {@code .idx}, or a directory holding
+ * {@code jenkins-plugins-bom-lookup.idx} or {@code jenkins-plugins-bom-lookup.txt} and optionally
+ * {@code jenkins-plugins-bom-versions.txt}. When a directory holds both lookup files, the one modified
+ * last is read, so editing either of them takes effect.
+ * A daemon thread watches it and swaps in a freshly read snapshot when it changes, so a long-running
+ * process picks up bom updates without a restart. Readers are never blocked, and a file that fails
+ * to parse leaves the previous snapshot in place.
+ */
+final class FileBomLookupSource implements BomLookupSource, Closeable {
+    private static final long QUIET_PERIOD_MILLIS = 200;
+
+    private final Path path;
+    private final AtomicReference<Snapshot> snapshot;
+    private final WatchService watchService;
+
+    @Getter
+    private volatile @Nullable IOException lastReloadFailure;
+
+    private FileBomLookupSource(Path path) throws IOException {
+        this.path = path.toAbsolutePath().normalize();
+        this.snapshot = new AtomicReference<>(read(this.path));
+        this.watchService = this.path.getFileSystem().newWatchService();
+        Path directory = Files.isDirectory(this.path) ? this.path : this.path.getParent();
+        directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+    }
+
+    /**
+     * Reads the bom data at the path and starts watching it for changes.
+     */
+    static FileBomLookupSource watching(Path path) throws IOException {
+        FileBomLookupSource source = new FileBomLookupSource(path);
+        Thread watcher = new Thread(source::watch, "bom-lookup-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+        return source;
+    }
+
+    @Override
+    public Snapshot snapshot() {
+        return snapshot.get();
+    }
+
+    /**
+     * Rereads the bom data, keeping the current snapshot if it can't be read.
+     */
+    void reload() {
+        try {
+            snapshot.set(read(path));
+            lastReloadFailure = null;
+        } catch (IOException | RuntimeException e) {
+            lastReloadFailure = e instanceof IOException ? (IOException) e : new IOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean relevant = relevant(key);
+                // wait for writes to settle so a half-written file is not picked up
+                WatchKey next;
+                while ((next = watchService.poll(QUIET_PERIOD_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    relevant |= relevant(next);
+                }
+                if (relevant) {
+                    reload();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException ignored) {
+            // closed
+        }
+    }
+
+    private boolean relevant(WatchKey key) {
+        boolean relevant = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW) {
+                relevant = true;
+            } else if (Files.isDirectory(path)) {
+                String changed = "/" + event.context();
+                relevant |= BomLookup.INDEX_RESOURCE.equals(changed) ||
+                            BomLookup.LOOKUP_RESOURCE.equals(changed) ||
+                            BomLookup.VERSIONS_RESOURCE.equals(changed);
+            } else {
+                relevant |= path.getFileName().equals(event.context());
+            }
+        }
+        key.reset();
+        return relevant;
+    }
+
+    private static Snapshot read(Path path) throws IOException {
+        if (!Files.isDirectory(path)) {
+            return new Snapshot(readArtifactsInBom(path), ManagedVersions.EMPTY);
+        }
+        CoordinateIndex artifactsInBom = readArtifactsInBom(newestLookupFile(path));
+        Path versions = path.resolve(BomLookup.VERSIONS_RESOURCE.substring(1));
+        if (!Files.exists(versions)) {
+            return new Snapshot(artifactsInBom, ManagedVersions.EMPTY);
+        }
+        try (InputStream is = Files.newInputStream(versions)) {
+            return new Snapshot(artifactsInBom, ManagedVersions.readText(is));
+        }
+    }
+
+    /**
+     * @return the compiled index, unless the text lookup file is missing it or was modified after it
+     */
+    private static Path newestLookupFile(Path directory) throws IOException {
+        Path idx = directory.resolve(BomLookup.INDEX_RESOURCE.substring(1));
+        Path txt = directory.resolve(BomLookup.LOOKUP_RESOURCE.substring(1));
+        if (!Files.exists(idx)) {
+            return txt;
+        }
+        if (!Files.exists(txt)) {
+            return idx;
+        }
+        return Files.getLastModifiedTime(txt).compareTo(Files.getLastModifiedTime(idx)) > 0 ? txt : idx;
+    }
+
+    private static CoordinateIndex readArtifactsInBom(Path file) throws IOException {
+        try (InputStream is = Files.newInputStream(file)) {
+            return file.getFileName().toString().endsWith(".idx") ?
+                    CoordinateIndex.read(is) :
+                    CoordinateIndex.readText(is);
+        }
+    }
+}
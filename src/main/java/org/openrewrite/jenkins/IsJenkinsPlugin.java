@@ -19,7 +19,6 @@ import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.openrewrite.*;
 import org.openrewrite.marker.SearchResult;
-import org.openrewrite.semver.Semver;
 import org.openrewrite.semver.VersionComparator;
 import org.openrewrite.xml.XmlVisitor;
 import org.openrewrite.xml.tree.Xml;
@@ -45,21 +44,21 @@ public class IsJenkinsPlugin extends Recipe {
         Validated<Object> validated = super.validate();
         //noinspection ConstantConditions
         if (version != null) {
-            validated = validated.or(Semver.validate(version, null));
+            validated = validated.or(SemverCache.validate(version));
         }
         return validated;
     }
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        Validated<VersionComparator> versionValidation = Semver.validate(version, null);
+        Validated<VersionComparator> versionValidation = SemverCache.validate(version);
         if (versionValidation.isValid()) {
             VersionComparator versionComparator = versionValidation.getValue();
             if (versionComparator != null) {
                 return new XmlVisitor<ExecutionContext>() {
                     @Override
                     public Xml visitDocument(Xml.Document document, ExecutionContext ctx) {
-                        String jenkinsVersion = Jenkins.isJenkinsPluginPom(document);
+                        String jenkinsVersion = Jenkins.isJenkinsPluginPom(document, ctx);
                         if (jenkinsVersion != null && versionComparator.isValid(null, jenkinsVersion) &&
                                 !document.getMarkers().findFirst(SearchResult.class).isPresent()) {
                             return SearchResult.found(document, jenkinsVersion);
@@ -17,19 +17,18 @@ package org.openrewrite.jenkins;
 
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
 import org.openrewrite.SourceFile;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.marker.SearchResult;
 import org.openrewrite.maven.tree.MavenResolutionResult;
-
-import java.util.function.Predicate;
-import java.util.regex.Pattern;
+import org.openrewrite.xml.tree.Xml;
 
 /**
  * Utility class
  */
 class Jenkins {
-    private static final Predicate<String> LTS_PATTERN = Pattern.compile("^\\d\\.(\\d+)\\.\\d$").asPredicate();
-    private static final Predicate<String> LTS_BASELINE_PATTERN = Pattern.compile("^\\$\\{jenkins.baseline\\}.\\d$").asPredicate();
-
     /**
      * Determines if this is a Jenkins Plugin Pom by checking for a managed version
      * of org.jenkins-ci.main:jenkins-core.
@@ -40,21 +39,44 @@ class Jenkins {
     public static @Nullable String isJenkinsPluginPom(SourceFile sourceFile) {
         return sourceFile.getMarkers()
                 .findFirst(MavenResolutionResult.class)
-                .map(mavenResolution -> mavenResolution.getPom().getManagedVersion("org.jenkins-ci.main",
-                            "jenkins-core", null, null))
+                .map(Jenkins::managedJenkinsVersion)
                 .orElse(null);
     }
 
+    /**
+     * Same as {@link #isJenkinsPluginPom(SourceFile)}, but remembers the answer for the rest of the run
+     * so other recipes checking the same POM don't walk its managed dependencies again.
+     *
+     * @param sourceFile POM
+     * @param ctx        the recipe run's context
+     * @return jenkins-core's version if managed, otherwise null
+     */
+    public static @Nullable String isJenkinsPluginPom(SourceFile sourceFile, ExecutionContext ctx) {
+        return PluginPomCache.of(ctx).jenkinsVersion(sourceFile);
+    }
+
+    /**
+     * A precondition matching Jenkins Plugin Poms. It only reads the POM's {@link MavenResolutionResult}
+     * marker, so other source files and non-plugin modules are turned away without being visited.
+     */
+    static TreeVisitor<?, ExecutionContext> pluginPomPrecondition() {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree instanceof Xml.Document && isJenkinsPluginPom((SourceFile) tree, ctx) != null) {
+                    return SearchResult.found(tree);
+                }
+                return tree;
+            }
+        };
+    }
+
+    static @Nullable String managedJenkinsVersion(MavenResolutionResult mavenResolution) {
+        return mavenResolution.getPom().getManagedVersion("org.jenkins-ci.main", "jenkins-core", null, null);
+    }
+
     @NonNull
     public static String bomNameForJenkinsVersion(@NonNull String version) {
-        if (LTS_PATTERN.test(version) || LTS_BASELINE_PATTERN.test(version)) {
-            if (version.startsWith("${jenkins.baseline}")) {
-                return "bom-${jenkins.baseline}.x";
-            }
-            int lastIndex = version.lastIndexOf(".");
-            String prefix = version.substring(0, lastIndex);
-            return "bom-" + prefix + ".x";
-        }
-        return "bom-weekly";
+        return JenkinsVersion.parse(version).getBomName();
     }
 }
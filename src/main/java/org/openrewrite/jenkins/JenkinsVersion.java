@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.jenkins;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@code jenkins.version} value classified by the release line it belongs to.
+ * <ul>
+ *     <li>LTS versions have three numeric components, such as {@code 2.452.4}, on the {@code 2.452} line.</li>
+ *     <li>Baseline versions reference the baseline property, such as {@code ${jenkins.baseline}.3}.</li>
+ *     <li>Anything else, such as {@code 2.384} or {@code 2.379-rc33114.2f90818f6a_35}, is treated as weekly.</li>
+ * </ul>
+ * Parsing is a single pass over the string, and the results for repeated versions are cached.
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+class JenkinsVersion {
+    static final String BASELINE_PROPERTY = "${jenkins.baseline}";
+
+    private static final int CACHE_LIMIT = 1024;
+    private static final Map<String, JenkinsVersion> CACHE = new ConcurrentHashMap<>();
+    private static final JenkinsVersion WEEKLY = new JenkinsVersion(Kind.WEEKLY, null, -1, "bom-weekly");
+
+    enum Kind {
+        LTS,
+        BASELINE,
+        WEEKLY
+    }
+
+    Kind kind;
+
+    /**
+     * The LTS line, such as {@code 2.452}, or {@link #BASELINE_PROPERTY}. Null for weekly versions.
+     */
+    @Nullable String line;
+
+    /**
+     * The LTS patch release, or -1 for weekly versions.
+     */
+    int patch;
+
+    /**
+     * The artifactId of the plugins bom for this version, such as {@code bom-2.452.x}.
+     */
+    String bomName;
+
+    static JenkinsVersion parse(String version) {
+        JenkinsVersion parsed = CACHE.get(version);
+        if (parsed == null) {
+            parsed = classify(version);
+            if (CACHE.size() >= CACHE_LIMIT) {
+                CACHE.clear();
+            }
+            CACHE.put(version, parsed);
+        }
+        return parsed;
+    }
+
+    private static JenkinsVersion classify(String version) {
+        boolean baseline = version.startsWith(BASELINE_PROPERTY);
+        int lineEnd;
+        if (baseline) {
+            lineEnd = BASELINE_PROPERTY.length();
+        } else {
+            // major.minor
+            int i = digits(version, 0);
+            if (i == 0 || i == version.length() || version.charAt(i) != '.') {
+                return WEEKLY;
+            }
+            lineEnd = digits(version, i + 1);
+            if (lineEnd == i + 1) {
+                return WEEKLY;
+            }
+        }
+        // .patch to the end
+        if (lineEnd == version.length() || version.charAt(lineEnd) != '.') {
+            return WEEKLY;
+        }
+        int patchEnd = digits(version, lineEnd + 1);
+        if (patchEnd != version.length() || patchEnd == lineEnd + 1 || patchEnd - lineEnd > 9) {
+            return WEEKLY;
+        }
+        String line = version.substring(0, lineEnd);
+        return new JenkinsVersion(
+                baseline ? Kind.BASELINE : Kind.LTS,
+                line,
+                Integer.parseInt(version.substring(lineEnd + 1)),
+                "bom-" + line + ".x");
+    }
+
+    /**
+     * @return the index of the first non-digit at or after {@code from}
+     */
+    private static int digits(String s, int from) {
+        int i = from;
+        while (i < s.length() && s.charAt(i) >= '0' && s.charAt(i) <= '9') {
+            i++;
+        }
+        return i;
+    }
+}
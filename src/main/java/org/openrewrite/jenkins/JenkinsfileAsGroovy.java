@@ -24,11 +24,21 @@ import org.openrewrite.marker.SearchResult;
 import org.openrewrite.text.PlainText;
 import org.openrewrite.text.PlainTextVisitor;
 
-import java.util.Optional;
+import java.util.*;
+import java.util.concurrent.*;
 
+import static java.util.Collections.emptyList;
+
+/**
+ * Jenkinsfiles found while scanning are parsed together before editing, in parallel on a bounded
+ * number of threads, each with its own {@link GroovyParser}. The editing phase only swaps them in,
+ * and parses a Jenkinsfile itself when an earlier recipe changed its text after it was scanned.
+ * A misplaced shebang is moved to the first line before parsing, so such a Jenkinsfile parses the first time.
+ */
 @EqualsAndHashCode(callSuper = false)
 @Value
-public class JenkinsfileAsGroovy extends Recipe {
+public class JenkinsfileAsGroovy extends ScanningRecipe<JenkinsfileAsGroovy.Accumulator> {
+    private static final int MAX_THREADS = 8;
 
     @Option(displayName = "File pattern",
             description = "A glob pattern to match Jenkinsfile paths. Defaults to `**/Jenkinsfile*`.",
@@ -41,17 +51,63 @@ public class JenkinsfileAsGroovy extends Recipe {
 
     String description = "Parse any `Jenkinsfile` as Groovy code.";
 
+    public static class Accumulator {
+        private final Map<UUID, String> pending = new ConcurrentHashMap<>();
+        private final Map<UUID, Parsed> parsed = new ConcurrentHashMap<>();
+    }
+
+    @Value
+    static class Parsed {
+        /**
+         * The text as it was scanned, before normalizing the shebang.
+         */
+        String text;
+
+        SourceFile sourceFile;
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
     @Override
-    public TreeVisitor<?, ExecutionContext> getVisitor() {
-        String paths = Optional.ofNullable(filePattern).orElse("**/Jenkinsfile*");
-        return Preconditions.check(new FindSourceFiles(paths), new PlainTextVisitor<ExecutionContext>() {
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return Preconditions.check(new FindSourceFiles(paths()), new PlainTextVisitor<ExecutionContext>() {
             @Override
             public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
                 if (tree instanceof PlainText) {
                     PlainText pt = (PlainText) tree;
-                    return GroovyParser.builder().build()
-                            .parse(pt.getText())
-                            .findFirst()
+                    acc.pending.put(pt.getId(), pt.getText());
+                    return tree;
+                }
+                return super.visit(tree, ctx);
+            }
+        });
+    }
+
+    @Override
+    public Collection<? extends SourceFile> generate(Accumulator acc, ExecutionContext ctx) {
+        // a single Jenkinsfile is not worth a thread pool, the visitor parses it
+        if (acc.pending.size() > 1) {
+            parseAll(acc, ctx);
+        }
+        acc.pending.clear();
+        return emptyList();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        return Preconditions.check(new FindSourceFiles(paths()), new PlainTextVisitor<ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree instanceof PlainText) {
+                    PlainText pt = (PlainText) tree;
+                    Parsed scanned = acc.parsed.remove(pt.getId());
+                    Optional<SourceFile> parsed = scanned != null && scanned.getText().equals(pt.getText()) ?
+                            Optional.of(scanned.getSourceFile()) :
+                            JenkinsfileParser.of(ctx).parse(JenkinsfileShebang.normalize(pt.getText()));
+                    return parsed
                             .map(sourceFile -> sourceFile
                                     .<SourceFile>withId(pt.getId())
                                     .<SourceFile>withMarkers(pt.getMarkers())
@@ -63,4 +119,47 @@ public class JenkinsfileAsGroovy extends Recipe {
             }
         });
     }
+
+    private String paths() {
+        return Optional.ofNullable(filePattern).orElse("**/Jenkinsfile*");
+    }
+
+    /**
+     * Parses the pending Jenkinsfiles in stripes, one per thread, as the parser is not thread safe.
+     * Anything left unparsed, because of a failure or an interruption, is parsed by the visitor instead.
+     * A failure is reported to the context's error handler, as falling back means parsing twice.
+     */
+    private static void parseAll(Accumulator acc, ExecutionContext ctx) {
+        List<Map.Entry<UUID, String>> pending = new ArrayList<>(acc.pending.entrySet());
+        int threads = Math.min(pending.size(), Math.min(MAX_THREADS, Runtime.getRuntime().availableProcessors()));
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> stripes = new ArrayList<>(threads);
+            for (int t = 0; t < threads; t++) {
+                int stripe = t;
+                stripes.add(executor.submit(() -> {
+                    GroovyParser parser = GroovyParser.builder().build();
+                    for (int i = stripe; i < pending.size(); i += threads) {
+                        Map.Entry<UUID, String> jenkinsfile = pending.get(i);
+                        String text = jenkinsfile.getValue();
+                        JenkinsfileParseCache.INSTANCE.parse(JenkinsfileShebang.normalize(text), source -> parser.parse(source).findFirst())
+                                .ifPresent(sf -> acc.parsed.put(jenkinsfile.getKey(), new Parsed(text, sf)));
+                    }
+                }));
+            }
+            for (Future<?> stripe : stripes) {
+                try {
+                    stripe.get();
+                } catch (ExecutionException e) {
+                    // the rest of the stripe falls back to parsing in the visitor
+                    ctx.getOnError().accept(new IllegalStateException(
+                            "Unable to parse Jenkinsfiles ahead of editing, parsing them one by one instead", e.getCause()));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
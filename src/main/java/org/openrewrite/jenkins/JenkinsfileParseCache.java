@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.jenkins;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.SourceFile;
+import org.openrewrite.Tree;
+import org.openrewrite.groovy.GroovyVisitor;
+import org.openrewrite.groovy.tree.G;
+import org.openrewrite.java.tree.J;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Remembers, across recipe runs in the same process, what Jenkinsfile sources parsed to, keyed by
+ * the SHA-256 of their text. Most plugins share one of a handful of byte-identical Jenkinsfiles,
+ * so a batch of repositories parses each variant once.
+ * <p>
+ * Each lookup hands out a copy of the parsed template with fresh ids, for the caller to give the
+ * id, markers and path of the file it replaces. The least recently used template is evicted when
+ * the cache is full.
+ */
+final class JenkinsfileParseCache {
+    static final JenkinsfileParseCache INSTANCE = new JenkinsfileParseCache(256);
+
+    private final int maxSize;
+    private final LinkedHashMap<ByteBuffer, SourceFile> templates = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    JenkinsfileParseCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @param source Groovy source code
+     * @param parser parses the source on a miss
+     * @return the parsed source file, which is a {@link org.openrewrite.tree.ParseError} if it could not be parsed
+     */
+    Optional<SourceFile> parse(String source, Function<String, Optional<SourceFile>> parser) {
+        ByteBuffer key = sha256(source);
+        SourceFile template = get(key);
+        if (template != null) {
+            return Optional.of(withNewIds(template));
+        }
+        // parse outside the lock, at worst two threads parse the same new text
+        Optional<SourceFile> parsed = parser.apply(source);
+        parsed.ifPresent(sf -> put(key, sf));
+        return parsed;
+    }
+
+    private synchronized @Nullable SourceFile get(ByteBuffer key) {
+        SourceFile template = templates.get(key);
+        if (template == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+        return template;
+    }
+
+    private synchronized void put(ByteBuffer key, SourceFile template) {
+        templates.put(key, template);
+        Iterator<SourceFile> eldest = templates.values().iterator();
+        while (templates.size() > maxSize) {
+            eldest.next();
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    synchronized long getHits() {
+        return hits;
+    }
+
+    synchronized long getMisses() {
+        return misses;
+    }
+
+    synchronized long getEvictions() {
+        return evictions;
+    }
+
+    synchronized int size() {
+        return templates.size();
+    }
+
+    /**
+     * Copies share no ids with the template, so recipes keying on ids never confuse two Jenkinsfiles.
+     */
+    private static SourceFile withNewIds(SourceFile template) {
+        if (!(template instanceof G.CompilationUnit)) {
+            return template.withId(Tree.randomId());
+        }
+        return (SourceFile) new GroovyVisitor<Integer>() {
+            @Override
+            public J postVisit(J tree, Integer p) {
+                return tree.withId(Tree.randomId());
+            }
+        }.visitNonNull(template, 0);
+    }
+
+    private static ByteBuffer sha256(String source) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is required of every Java platform", e);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.jenkins;
+
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.SourceFile;
+import org.openrewrite.groovy.GroovyParser;
+
+import java.util.Optional;
+
+/**
+ * One {@link GroovyParser} shared by the Jenkinsfile recipes for the duration of a recipe run,
+ * so Jenkinsfiles and snippets parsed in the same run reuse its setup and type cache
+ * instead of building a parser each time.
+ * <p>
+ * Sources already parsed in this process come from {@link JenkinsfileParseCache}.
+ * The parser is not thread safe, so parsing is serialized.
+ */
+final class JenkinsfileParser {
+    private static final String KEY = JenkinsfileParser.class.getName();
+
+    private final GroovyParser parser;
+
+    private JenkinsfileParser(GroovyParser parser) {
+        this.parser = parser;
+    }
+
+    static JenkinsfileParser of(ExecutionContext ctx) {
+        return ctx.computeMessageIfAbsent(KEY, k -> new JenkinsfileParser(GroovyParser.builder().build()));
+    }
+
+    /**
+     * @param source Groovy source code
+     * @return the parsed source file, which is a {@link org.openrewrite.tree.ParseError} if it could not be parsed
+     */
+    Optional<SourceFile> parse(String source) {
+        return JenkinsfileParseCache.INSTANCE.parse(source, this::parseUncached);
+    }
+
+    /**
+     * Parses with the shared parser, bypassing {@link JenkinsfileParseCache}.
+     */
+    synchronized Optional<SourceFile> parseUncached(String source) {
+        return parser.parse(source).findFirst();
+    }
+}
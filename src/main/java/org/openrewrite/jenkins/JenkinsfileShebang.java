@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.jenkins;
+
+/**
+ * Groovy's parser rejects a {@code #!} shebang anywhere but the start of the file.
+ * Moving it there before parsing spares a failed parse and the reparse that recovers from it.
+ * <p>
+ * Only a shebang in the file's header, preceded by nothing but blank lines and comments, is moved.
+ * A line starting with {@code #!} further down is code, typically a script in a multi-line string.
+ */
+final class JenkinsfileShebang {
+
+    private JenkinsfileShebang() {
+    }
+
+    /**
+     * @param source Jenkinsfile text
+     * @return the text with its header's shebang line moved to the start, or the same text if the header
+     * has no shebang line or the shebang is already first
+     */
+    static String normalize(String source) {
+        // most Jenkinsfiles have no shebang past the first character, skip the scan for them
+        if (source.indexOf("#!", 1) < 0) {
+            return source;
+        }
+        int start = headerShebang(source);
+        if (start <= 0) {
+            return source;
+        }
+        int end = start;
+        while (end < source.length() && source.charAt(end) != '\n' && source.charAt(end) != '\r') {
+            end++;
+        }
+        if (end == source.length()) {
+            return source.substring(start) + "\n" + source.substring(0, start);
+        }
+        end += source.startsWith("\r\n", end) ? 2 : 1;
+        return source.substring(start, end) + source.substring(0, start) + source.substring(end);
+    }
+
+    /**
+     * @return where a shebang line starts after the leading blank lines and comments, or -1 if there is none
+     */
+    private static int headerShebang(String source) {
+        int i = 0;
+        while (i < source.length()) {
+            if (Character.isWhitespace(source.charAt(i))) {
+                i++;
+            } else if (source.startsWith("//", i)) {
+                while (i < source.length() && source.charAt(i) != '\n' && source.charAt(i) != '\r') {
+                    i++;
+                }
+            } else if (source.startsWith("/*", i)) {
+                int close = source.indexOf("*/", i + 2);
+                if (close < 0) {
+                    return -1;
+                }
+                i = close + 2;
+            } else {
+                break;
+            }
+        }
+        boolean lineStart = i == 0 || source.charAt(i - 1) == '\n' || source.charAt(i - 1) == '\r';
+        return lineStart && source.startsWith("#!", i) ? i : -1;
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.jenkins;
+
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * The versions managed by each line of the Jenkins plugins BOM, such as {@code bom-2.452.x},
+ * so the bom to import and the dependency versions it makes redundant can be decided offline.
+ * <p>
+ * The text form has a header line per bom with its artifactId and version, followed by the
+ * coordinates it manages, indented, each with its managed version.
+ * Lines starting with {@code #} are comments.
+ * <pre>
+ * bom-2.452.x 3850.vb_c5319efa_e29
+ *   io.jenkins.plugins:theme-manager 262.vc57ee4a_eda_5d
+ *   org.jenkins-ci.plugins:ant 511.v0a_a_1a_334f41b_
+ * </pre>
+ */
+final class ManagedVersions {
+    static final ManagedVersions EMPTY = new ManagedVersions(emptyMap());
+
+    /**
+     * Files already read, with the modification time and size they had, so every pom in a run
+     * shares one parse of the file until it changes on disk.
+     */
+    private static final Map<Path, FileSnapshot> FILES = new ConcurrentHashMap<>();
+
+    private final Map<String, Line> lines;
+
+    private ManagedVersions(Map<String, Line> lines) {
+        this.lines = lines;
+    }
+
+    /**
+     * @param bomArtifactId artifactId of the bom, such as {@code bom-2.452.x}
+     * @return the versions managed by that bom, or null if the line is unknown
+     */
+    @Nullable Line line(String bomArtifactId) {
+        return lines.get(bomArtifactId);
+    }
+
+    int size() {
+        return lines.size();
+    }
+
+    /**
+     * Reads the text form from a local file, reusing the previous read if the file has not changed since.
+     */
+    static ManagedVersions readFile(Path file) throws IOException {
+        Path key = file.toAbsolutePath().normalize();
+        BasicFileAttributes attributes = Files.readAttributes(key, BasicFileAttributes.class);
+        FileSnapshot cached = FILES.get(key);
+        if (cached != null && cached.isCurrent(attributes)) {
+            return cached.versions;
+        }
+        ManagedVersions versions;
+        try (InputStream is = Files.newInputStream(key)) {
+            versions = readText(is);
+        }
+        FILES.put(key, new FileSnapshot(attributes, versions));
+        return versions;
+    }
+
+    static ManagedVersions readText(InputStream is) throws IOException {
+        Map<String, Line> lines = new HashMap<>();
+        BufferedReader br = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8));
+        @Nullable LineBuilder current = null;
+        String line;
+        int lineNumber = 0;
+        while ((line = br.readLine()) != null) {
+            lineNumber++;
+            String tidy = line.trim();
+            if (tidy.isEmpty() || tidy.startsWith("#")) {
+                continue;
+            }
+            String[] parts = tidy.split("\\s+");
+            if (parts.length != 2) {
+                throw new IOException("Expected two columns on line " + lineNumber + " but was: " + line);
+            }
+            if (Character.isWhitespace(line.charAt(0))) {
+                if (current == null) {
+                    throw new IOException("Managed version before any bom on line " + lineNumber);
+                }
+                current.add(parts[0], parts[1]);
+            } else {
+                if (current != null) {
+                    lines.put(current.artifactId, current.build());
+                }
+                current = new LineBuilder(parts[0], parts[1]);
+            }
+        }
+        if (current != null) {
+            lines.put(current.artifactId, current.build());
+        }
+        return lines.isEmpty() ? EMPTY : new ManagedVersions(unmodifiableMap(lines));
+    }
+
+    /**
+     * The dependency versions managed by one bom.
+     */
+    static final class Line {
+        @Getter
+        private final String artifactId;
+
+        @Getter
+        private final String version;
+
+        private final CoordinateIndex coordinates;
+
+        /**
+         * Indexed by {@link CoordinateIndex#indexOf(String, String)}.
+         */
+        private final String[] versions;
+
+        private Line(String artifactId, String version, CoordinateIndex coordinates, String[] versions) {
+            this.artifactId = artifactId;
+            this.version = version;
+            this.coordinates = coordinates;
+            this.versions = versions;
+        }
+
+        /**
+         * @return the number of dependencies this bom manages, 0 if only the bom's own version is known
+         */
+        int size() {
+            return coordinates.size();
+        }
+
+        boolean manages(String groupId, String artifactId) {
+            return coordinates.contains(groupId, artifactId);
+        }
+
+        /**
+         * @return the version this bom manages for the dependency, or null if it does not manage it
+         */
+        @Nullable String managedVersion(String groupId, String artifactId) {
+            int i = coordinates.indexOf(groupId, artifactId);
+            return i < 0 ? null : versions[i];
+        }
+    }
+
+    static class LineBuilder {
+        private final String artifactId;
+        private final String version;
+        private final Map<String, String> managed = new LinkedHashMap<>();
+
+        LineBuilder(String artifactId, String version) {
+            this.artifactId = artifactId;
+            this.version = version;
+        }
+
+        void add(String coordinate, String version) {
+            managed.put(coordinate, version);
+        }
+
+        Line build() {
+            CoordinateIndex.Builder builder = CoordinateIndex.builder();
+            for (String coordinate : managed.keySet()) {
+                builder.add(coordinate);
+            }
+            CoordinateIndex coordinates = builder.build();
+            String[] versions = new String[coordinates.size()];
+            for (Map.Entry<String, String> entry : managed.entrySet()) {
+                String coordinate = entry.getKey();
+                int colon = coordinate.indexOf(':');
+                versions[coordinates.indexOf(coordinate.substring(0, colon), coordinate.substring(colon + 1))] = entry.getValue();
+            }
+            return new Line(artifactId, version, coordinates, versions);
+        }
+    }
+
+    private static class FileSnapshot {
+        private final long lastModified;
+        private final long size;
+        private final ManagedVersions versions;
+
+        FileSnapshot(BasicFileAttributes attributes, ManagedVersions versions) {
+            this.lastModified = attributes.lastModifiedTime().toMillis();
+            this.size = attributes.size();
+            this.versions = versions;
+        }
+
+        boolean isCurrent(BasicFileAttributes attributes) {
+            return lastModified == attributes.lastModifiedTime().toMillis() && size == attributes.size();
+        }
+    }
+}
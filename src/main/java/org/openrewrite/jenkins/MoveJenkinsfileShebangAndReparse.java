@@ -24,19 +24,12 @@ import org.openrewrite.Recipe;
 import org.openrewrite.SourceFile;
 import org.openrewrite.Tree;
 import org.openrewrite.TreeVisitor;
-import org.openrewrite.groovy.GroovyParser;
 import org.openrewrite.tree.ParseError;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 @EqualsAndHashCode(callSuper = false)
 @Value
 public class MoveJenkinsfileShebangAndReparse extends Recipe {
 
-    // Anchored to start-of-line via (?m); only matches the shebang line itself plus its terminator.
-    private static final Pattern SHEBANG_LINE = Pattern.compile("(?m)^#![^\\r\\n]*(?:\\r\\n|\\r|\\n)?");
-
     String displayName = "Recover `Jenkinsfile` parse errors caused by a misplaced shebang";
 
     String description = "Groovy's Antlr4 parser rejects a `#!` shebang that is not on the first line of " +
@@ -63,16 +56,13 @@ public class MoveJenkinsfileShebangAndReparse extends Recipe {
                     return pe;
                 }
                 String src = pe.getText();
-                Matcher m = SHEBANG_LINE.matcher(src);
-                if (!m.find() || m.start() == 0) {
+                String rewritten = JenkinsfileShebang.normalize(src);
+                if (rewritten.equals(src)) {
                     return pe;
                 }
-                String shebangLine = m.group();
-                String rewritten = shebangLine + src.substring(0, m.start()) + src.substring(m.end());
 
-                return GroovyParser.builder().build()
+                return JenkinsfileParser.of(ctx)
                         .parse(rewritten)
-                        .findFirst()
                         .filter(sf -> !(sf instanceof ParseError))
                         .map(sf -> (Tree) sf
                                 .<SourceFile>withId(pe.getId())
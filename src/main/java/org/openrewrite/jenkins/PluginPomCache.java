@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.jenkins;
+
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.SourceFile;
+import org.openrewrite.maven.tree.MavenResolutionResult;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Remembers, for the duration of a recipe run, the jenkins-core version each POM manages,
+ * so recipes that check the same POM share one walk of its managed dependencies.
+ * <p>
+ * Entries are keyed by source file id and only reused while the POM still carries the same
+ * {@link MavenResolutionResult}, so a recipe that updates the model invalidates them.
+ */
+final class PluginPomCache {
+    private static final String KEY = PluginPomCache.class.getName();
+
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    static PluginPomCache of(ExecutionContext ctx) {
+        return ctx.computeMessageIfAbsent(KEY, k -> new PluginPomCache());
+    }
+
+    /**
+     * @return jenkins-core's version if managed, otherwise null
+     */
+    @Nullable String jenkinsVersion(SourceFile sourceFile) {
+        Optional<MavenResolutionResult> maybeResolution = sourceFile.getMarkers().findFirst(MavenResolutionResult.class);
+        if (!maybeResolution.isPresent()) {
+            return null;
+        }
+        MavenResolutionResult resolution = maybeResolution.get();
+        Entry cached = entries.get(sourceFile.getId());
+        if (cached != null && cached.getResolution() == resolution) {
+            hits.incrementAndGet();
+            return cached.getJenkinsVersion();
+        }
+        misses.incrementAndGet();
+        String jenkinsVersion = Jenkins.managedJenkinsVersion(resolution);
+        entries.put(sourceFile.getId(), new Entry(resolution, jenkinsVersion));
+        return jenkinsVersion;
+    }
+
+    long getHits() {
+        return hits.get();
+    }
+
+    long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * @return the share of lookups answered from the cache, 0 if there were none
+     */
+    double getHitRate() {
+        long h = hits.get();
+        long total = h + misses.get();
+        return total == 0 ? 0 : (double) h / total;
+    }
+
+    @Value
+    private static class Entry {
+        MavenResolutionResult resolution;
+        @Nullable String jenkinsVersion;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.jenkins;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.maven.MavenIsoVisitor;
+import org.openrewrite.maven.tree.GroupArtifact;
+import org.openrewrite.maven.tree.ResolvedPom;
+import org.openrewrite.xml.tree.Xml;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Removes the version of each of the given dependencies when it is the version dependency management
+ * already provides, in a single walk of the pom no matter how many dependencies are given.
+ * The managed versions are either resolved from the pom or, for a bom pinned to a known line, given.
+ */
+class RemoveRedundantBomVersions extends MavenIsoVisitor<ExecutionContext> {
+    private final Set<GroupArtifact> dependencies;
+    private final @Nullable Map<GroupArtifact, String> managedVersions;
+
+    RemoveRedundantBomVersions(Set<GroupArtifact> dependencies) {
+        this.dependencies = dependencies;
+        this.managedVersions = null;
+    }
+
+    /**
+     * @param managedVersions each dependency with the version its bom manages
+     */
+    RemoveRedundantBomVersions(Map<GroupArtifact, String> managedVersions) {
+        this.dependencies = managedVersions.keySet();
+        this.managedVersions = managedVersions;
+    }
+
+    @Override
+    public Xml.Tag visitTag(Xml.Tag tag, ExecutionContext ctx) {
+        Xml.Tag t = super.visitTag(tag, ctx);
+        if (!isDependencyTag()) {
+            return t;
+        }
+        Optional<Xml.Tag> version = t.getChild("version");
+        String groupId = t.getChildValue("groupId").orElse(null);
+        String artifactId = t.getChildValue("artifactId").orElse(null);
+        if (!version.isPresent() || groupId == null || artifactId == null) {
+            return t;
+        }
+        GroupArtifact ga = new GroupArtifact(groupId, artifactId);
+        if (!dependencies.contains(ga)) {
+            return t;
+        }
+        ResolvedPom pom = getResolutionResult().getPom();
+        String managedVersion = managedVersions != null ?
+                managedVersions.get(ga) :
+                pom.getManagedVersion(groupId, artifactId,
+                        t.getChildValue("type").orElse(null),
+                        t.getChildValue("classifier").orElse(null));
+        if (managedVersion == null || !managedVersion.equals(pom.getValue(version.get().getValue().orElse(null)))) {
+            return t;
+        }
+        maybeUpdateModel();
+        return t.withContent(ListUtils.map(t.getContent(), c -> c == version.get() ? null : c));
+    }
+}
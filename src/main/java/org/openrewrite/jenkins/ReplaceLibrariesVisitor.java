@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.jenkins;
+
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.maven.AddDependencyVisitor;
+import org.openrewrite.maven.MavenVisitor;
+import org.openrewrite.maven.RemoveDependency;
+import org.openrewrite.maven.tree.GroupArtifact;
+import org.openrewrite.maven.tree.ResolvedDependency;
+import org.openrewrite.xml.AddToTagVisitor;
+import org.openrewrite.xml.tree.Xml;
+import org.openrewrite.xml.tree.Xml.Tag;
+
+import java.util.*;
+
+/**
+ * Replaces libraries with the api plugins providing them, for any number of api plugins in one pass.
+ * Each api plugin is added and each library removed at most once per pom, however many dependencies bring them in.
+ * Exclusions are gathered per dependency and added to it in a single edit, with one model update per pom.
+ */
+class ReplaceLibrariesVisitor extends MavenVisitor<ExecutionContext> {
+    private static final String DOCUMENT_KEY = "replaceLibraries";
+
+    private final List<ReplaceLibrariesWithApiPlugins.ApiPlugin> plugins;
+    private final Set<GroupArtifact> libraries = new HashSet<>();
+
+    ReplaceLibrariesVisitor(List<ReplaceLibrariesWithApiPlugins.ApiPlugin> plugins) {
+        this.plugins = plugins;
+        for (ReplaceLibrariesWithApiPlugins.ApiPlugin plugin : plugins) {
+            for (ReplaceLibrariesWithApiPlugin.Library replaced : plugin.getReplaces()) {
+                libraries.add(new GroupArtifact(replaced.getGroupId(), replaced.getArtifactId()));
+            }
+        }
+    }
+
+    @Override
+    public Xml visitDocument(Xml.Document document, ExecutionContext ctx) {
+        Replacements replacements = new Replacements(new TransitiveDependencyIndex(libraries));
+        getCursor().putMessage(DOCUMENT_KEY, replacements);
+        Xml d = super.visitDocument(document, ctx);
+        if (replacements.modelChanged) {
+            maybeUpdateModel();
+        }
+        return d;
+    }
+
+    @Override
+    public Xml visitTag(Tag tag, ExecutionContext ctx) {
+        Replacements replacements = getCursor().getNearestMessage(DOCUMENT_KEY);
+        if (replacements == null || !isDependencyTag()) {
+            return super.visitTag(tag, ctx);
+        }
+        ResolvedDependency dependency = findDependency(tag);
+        if (dependency == null) {
+            return super.visitTag(tag, ctx);
+        }
+        Optional<Tag> maybeExclusions = tag.getChild("exclusions");
+        Set<GroupArtifact> excluded = new HashSet<>();
+        maybeExclusions.ifPresent(exclusions -> {
+            for (Tag exclusion : exclusions.getChildren("exclusion")) {
+                excluded.add(new GroupArtifact(
+                        exclusion.getChildValue("groupId").orElse(""),
+                        exclusion.getChildValue("artifactId").orElse("")));
+            }
+        });
+        List<String> newExclusions = new ArrayList<>();
+        for (ReplaceLibrariesWithApiPlugins.ApiPlugin plugin : plugins) {
+            if (isApiPlugin(dependency, plugin)) {
+                continue;
+            }
+            for (ReplaceLibrariesWithApiPlugin.Library replaced : plugin.getReplaces()) {
+                GroupArtifact library = new GroupArtifact(replaced.getGroupId(), replaced.getArtifactId());
+                ResolvedDependency found = replacements.index.find(dependency, library);
+                if (found == null) {
+                    continue;
+                }
+                if (replacements.pluginsAdded.add(new GroupArtifact(plugin.getGroupId(), plugin.getArtifactId()))) {
+                    doAfterVisit(new AddDependencyVisitor(
+                            plugin.getGroupId(),
+                            plugin.getArtifactId(),
+                            plugin.getVersion(),
+                            null,
+                            null,
+                            true,
+                            null,
+                            null,
+                            false,
+                            null
+                    ));
+                }
+                if (replacements.librariesRemoved.add(library)) {
+                    doAfterVisit(new RemoveDependency(library.getGroupId(), library.getArtifactId(), null).getVisitor());
+                }
+                if (found != dependency && excluded.add(library)) {
+                    newExclusions.add("" +
+                            "<exclusion>\n" +
+                            "<!-- brought in by " + plugin.getGroupId() + ":" + plugin.getArtifactId() + " -->\n" +
+                            "<groupId>" + library.getGroupId() + "</groupId>\n" +
+                            "<artifactId>" + library.getArtifactId() + "</artifactId>\n" +
+                            "</exclusion>");
+                }
+            }
+        }
+        if (newExclusions.isEmpty()) {
+            return super.visitTag(tag, ctx);
+        }
+
+        // edit the dependency tag in place rather than scheduling one pass over the whole pom per exclusion
+        Cursor parent = getCursor().getParentOrThrow();
+        Tag t = tag;
+        if (maybeExclusions.isPresent()) {
+            for (String exclusion : newExclusions) {
+                t = (Tag) new AddToTagVisitor<ExecutionContext>(maybeExclusions.get(), Tag.build(exclusion))
+                        .visitNonNull(t, ctx, parent);
+            }
+        } else {
+            t = (Tag) new AddToTagVisitor<ExecutionContext>(tag, Tag.build(
+                    "<exclusions>\n" + String.join("\n", newExclusions) + "\n</exclusions>"))
+                    .visitNonNull(t, ctx, parent);
+        }
+        replacements.modelChanged = true;
+        return super.visitTag(t, ctx);
+    }
+
+    private static boolean isApiPlugin(ResolvedDependency dependency, ReplaceLibrariesWithApiPlugins.ApiPlugin plugin) {
+        return plugin.getGroupId().equals(dependency.getGroupId()) && plugin.getArtifactId().equals(dependency.getArtifactId());
+    }
+
+    /**
+     * What has been found and scheduled for one pom.
+     */
+    private static class Replacements {
+        private final TransitiveDependencyIndex index;
+        private final Set<GroupArtifact> pluginsAdded = new HashSet<>();
+        private final Set<GroupArtifact> librariesRemoved = new HashSet<>();
+        private boolean modelChanged;
+
+        Replacements(TransitiveDependencyIndex index) {
+            this.index = index;
+        }
+    }
+}
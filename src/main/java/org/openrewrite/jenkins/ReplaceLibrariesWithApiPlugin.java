@@ -21,19 +21,12 @@ import org.openrewrite.ExecutionContext;
 import org.openrewrite.Option;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
-import org.openrewrite.maven.AddDependencyVisitor;
-import org.openrewrite.maven.MavenVisitor;
-import org.openrewrite.maven.RemoveDependency;
-import org.openrewrite.maven.tree.ResolvedDependency;
-import org.openrewrite.xml.AddToTagVisitor;
 import org.openrewrite.xml.XPathMatcher;
-import org.openrewrite.xml.tree.Xml;
-import org.openrewrite.xml.tree.Xml.Tag;
 
-import java.util.List;
-import java.util.Optional;
 import java.util.Set;
 
+import static java.util.Collections.singletonList;
+
 /**
  * Replaces a set of libraries with an api plugin.
  * Excludes libraries transitively with comments.
@@ -97,69 +90,7 @@ public class ReplaceLibrariesWithApiPlugin extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return new MavenVisitor<ExecutionContext>() {
-            @Override
-            public Xml visitTag(Tag tag, ExecutionContext ctx) {
-                if (isDependencyTag()) {
-                    ResolvedDependency dependency = findDependency(tag);
-                    if (dependency != null && !isApiPlugin(dependency)) {
-                        for (Library replaced : replaces) {
-                            String groupId = replaced.groupId;
-                            String artifactId = replaced.artifactId;
-                            ResolvedDependency found = dependency.findDependency(groupId, artifactId);
-                            if (found == null) {
-                                continue;
-                            }
-                            doAfterVisit(new AddDependencyVisitor(
-                                    pluginGroupId,
-                                    pluginArtifactId,
-                                    pluginVersion,
-                                    null,
-                                    null,
-                                    true,
-                                    null,
-                                    null,
-                                    false,
-                                    null
-                            ));
-                            doAfterVisit(new RemoveDependency(groupId, artifactId, null).getVisitor());
-                            if (found != dependency) {
-                                Optional<Tag> maybeExclusions = tag.getChild("exclusions");
-                                if (maybeExclusions.isPresent()) {
-                                    Tag exclusions = maybeExclusions.get();
-
-                                    List<Tag> individualExclusions = exclusions.getChildren("exclusion");
-                                    if (individualExclusions.stream().noneMatch(exclusion ->
-                                            groupId.equals(exclusion.getChildValue("groupId").orElse(null)) &&
-                                                    artifactId.equals(exclusion.getChildValue("artifactId").orElse(null)))) {
-                                        doAfterVisit(new AddToTagVisitor<>(exclusions, Tag.build("" +
-                                                "<exclusion>\n" +
-                                                "<!-- brought in by " + pluginGroupId + ":" + pluginArtifactId + " -->\n" +
-                                                "<groupId>" + groupId + "</groupId>\n" +
-                                                "<artifactId>" + artifactId + "</artifactId>\n" +
-                                                "</exclusion>")));
-                                    }
-                                } else {
-                                    doAfterVisit(new AddToTagVisitor<>(tag, Tag.build("" +
-                                            "<exclusions>\n" +
-                                            "<exclusion>\n" +
-                                            "<!-- brought in by " + pluginGroupId + ":" + pluginArtifactId + " -->\n" +
-                                            "<groupId>" + groupId + "</groupId>\n" +
-                                            "<artifactId>" + artifactId + "</artifactId>\n" +
-                                            "</exclusion>\n" +
-                                            "</exclusions>")));
-                                }
-                                maybeUpdateModel();
-                            }
-                        }
-                    }
-                }
-                return super.visitTag(tag, ctx);
-            }
-
-            private boolean isApiPlugin(ResolvedDependency dependency) {
-                return pluginGroupId.equals(dependency.getGroupId()) && pluginArtifactId.equals(dependency.getArtifactId());
-            }
-        };
+        return new ReplaceLibrariesVisitor(singletonList(
+                new ReplaceLibrariesWithApiPlugins.ApiPlugin(pluginGroupId, pluginArtifactId, pluginVersion, replaces)));
     }
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.jenkins;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Option;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Replaces libraries with the api plugins that provide them, for several api plugins at once.
+ * Same as a chain of {@link ReplaceLibrariesWithApiPlugin}, in one pass over the pom.
+ */
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class ReplaceLibrariesWithApiPlugins extends Recipe {
+    @Option(displayName = "API Plugins",
+            description = "Each API plugin's coordinates with the set of library coordinates it replaces.",
+            example = "- groupId: io.jenkins.plugins\n  artifactId: commons-text-api\n  version: 1.9-5.v7ea_44fe6061c\n" +
+                    "  replaces:\n    - groupId: org.apache.commons\n      artifactId: commons-text")
+    List<ApiPlugin> plugins;
+
+    /**
+     * An api plugin and the groupId:artifactId combos it replaces if present.
+     */
+    @Value
+    public static class ApiPlugin {
+        String groupId;
+        String artifactId;
+
+        /**
+         * An exact version number.
+         */
+        String version;
+
+        Set<ReplaceLibrariesWithApiPlugin.Library> replaces;
+    }
+
+    String displayName = "Use Jenkins API plugins instead of libraries";
+
+    String description = "Prefer Jenkins API plugins over bundling libraries for slimmer plugins. " +
+                "Replaces the libraries of every given API plugin in a single pass.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return new ReplaceLibrariesVisitor(plugins);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.jenkins;
+
+import org.openrewrite.Validated;
+import org.openrewrite.semver.Semver;
+import org.openrewrite.semver.VersionComparator;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Validated version comparators by version spec, so recipes configured with the same
+ * version options don't parse them again for every visitor they build.
+ */
+final class SemverCache {
+    private static final int CACHE_LIMIT = 256;
+    private static final Map<String, Validated<VersionComparator>> CACHE = new ConcurrentHashMap<>();
+
+    private SemverCache() {
+    }
+
+    /**
+     * Same as {@link Semver#validate(String, String)} without a metadata pattern.
+     */
+    static Validated<VersionComparator> validate(String versionSpec) {
+        Validated<VersionComparator> validated = CACHE.get(versionSpec);
+        if (validated == null) {
+            validated = Semver.validate(versionSpec, null);
+            if (CACHE.size() >= CACHE_LIMIT) {
+                CACHE.clear();
+            }
+            CACHE.put(versionSpec, validated);
+        }
+        return validated;
+    }
+}
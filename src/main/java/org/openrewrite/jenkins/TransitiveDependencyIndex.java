@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.jenkins;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.maven.tree.GroupArtifact;
+import org.openrewrite.maven.tree.ResolvedDependency;
+
+import java.util.*;
+
+import static org.openrewrite.internal.StringUtils.matchesGlob;
+
+/**
+ * Where a pom's direct dependencies pull in a fixed set of libraries.
+ * <p>
+ * The first time a direct dependency is looked up, its transitive tree is walked once, depth first,
+ * recording the first occurrence of every library that isn't excluded on the way down, the same one
+ * {@link ResolvedDependency#findDependency(String, String)} would find. Every later lookup for that
+ * dependency, whichever library it asks about, is a map lookup.
+ * <p>
+ * A library's groupId and artifactId may be globs, as with {@link ResolvedDependency#findDependency(String, String)}.
+ * Exact coordinates are matched by a set lookup and only globs are tried one by one.
+ */
+final class TransitiveDependencyIndex {
+    private final int libraryCount;
+    private final Set<GroupArtifact> exact = new HashSet<>();
+    private final List<GroupArtifact> globs = new ArrayList<>();
+    private final Map<ResolvedDependency, Map<GroupArtifact, ResolvedDependency>> byDependency = new IdentityHashMap<>();
+
+    TransitiveDependencyIndex(Set<GroupArtifact> libraries) {
+        this.libraryCount = libraries.size();
+        for (GroupArtifact library : libraries) {
+            if (isGlob(library.getGroupId()) || isGlob(library.getArtifactId())) {
+                globs.add(library);
+            } else {
+                exact.add(library);
+            }
+        }
+    }
+
+    /**
+     * @param dependency a direct dependency
+     * @param library    one of the indexed libraries, as given, globs included
+     * @return the dependency itself if it is the library, else where its tree brings the library in, or null
+     */
+    @Nullable ResolvedDependency find(ResolvedDependency dependency, GroupArtifact library) {
+        return pulledIn(dependency).get(library);
+    }
+
+    /**
+     * @param dependency a direct dependency
+     * @return each indexed library the dependency is or brings in, in the order they were found
+     */
+    Map<GroupArtifact, ResolvedDependency> pulledIn(ResolvedDependency dependency) {
+        Map<GroupArtifact, ResolvedDependency> pulledIn = byDependency.get(dependency);
+        if (pulledIn == null) {
+            pulledIn = new LinkedHashMap<>();
+            collect(dependency, new ArrayDeque<>(), Collections.newSetFromMap(new IdentityHashMap<>()), pulledIn);
+            byDependency.put(dependency, pulledIn);
+        }
+        return pulledIn;
+    }
+
+    private void collect(ResolvedDependency dependency, Deque<List<GroupArtifact>> exclusions,
+                         Set<ResolvedDependency> visited, Map<GroupArtifact, ResolvedDependency> pulledIn) {
+        GroupArtifact ga = new GroupArtifact(dependency.getGroupId(), dependency.getArtifactId());
+        if (exact.contains(ga)) {
+            record(ga, ga, dependency, exclusions, pulledIn);
+        }
+        for (GroupArtifact glob : globs) {
+            if (matchesGlob(ga.getGroupId(), glob.getGroupId()) && matchesGlob(ga.getArtifactId(), glob.getArtifactId())) {
+                record(glob, ga, dependency, exclusions, pulledIn);
+            }
+        }
+        if (pulledIn.size() == libraryCount || !visited.add(dependency)) {
+            return;
+        }
+        List<GroupArtifact> excluded = dependency.getRequested().getExclusions();
+        exclusions.push(excluded == null ? Collections.emptyList() : excluded);
+        for (ResolvedDependency child : dependency.getDependencies()) {
+            collect(child, exclusions, visited, pulledIn);
+        }
+        exclusions.pop();
+    }
+
+    private static void record(GroupArtifact library, GroupArtifact ga, ResolvedDependency dependency,
+                               Deque<List<GroupArtifact>> exclusions, Map<GroupArtifact, ResolvedDependency> pulledIn) {
+        if (!pulledIn.containsKey(library) && !isExcluded(ga, exclusions)) {
+            pulledIn.put(library, dependency);
+        }
+    }
+
+    private static boolean isGlob(String coordinate) {
+        return coordinate.indexOf('*') >= 0 || coordinate.indexOf('?') >= 0;
+    }
+
+    private static boolean isExcluded(GroupArtifact ga, Deque<List<GroupArtifact>> exclusions) {
+        for (List<GroupArtifact> level : exclusions) {
+            for (GroupArtifact exclusion : level) {
+                if (matchesGlob(ga.getGroupId(), exclusion.getGroupId()) &&
+                    matchesGlob(ga.getArtifactId(), exclusion.getArtifactId())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -20,7 +20,6 @@ import lombok.Value;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
 import org.openrewrite.groovy.GroovyIsoVisitor;
-import org.openrewrite.groovy.GroovyParser;
 import org.openrewrite.groovy.tree.G;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.internal.StringUtils;
@@ -125,9 +124,8 @@ public class UpgradeJavaVersion extends ScanningRecipe<AtomicBoolean> {
                 if (!(l.getBody() instanceof J.Block) || getCursor().pollMessage("TARGET_JDK_ALERADY_CONFIGURED") != null || !foundJavaProject.get()) {
                     return l;
                 }
-                J.Assignment as = GroovyParser.builder().build()
+                J.Assignment as = JenkinsfileParser.of(ctx)
                         .parse("java_version = '" + (distribution == null ? "" : distribution) + version + "'")
-                        .findFirst()
                         .map(G.CompilationUnit.class::cast)
                         .map(cu -> cu.getStatements().get(0))
                         .map(J.Assignment.class::cast)
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.jenkins;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.openrewrite.*;
+
+import java.util.Map;
+
+/**
+ * Updates each version property unless it is already greater than its minimum version.
+ * Same as a chain of {@link UpgradeVersionProperty}, in one pass over the pom.
+ */
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class UpgradeVersionProperties extends Recipe {
+    private static final String BASELINE = "jenkins.baseline";
+
+    @Option(displayName = "Minimum versions",
+            description = "The property keys to change, each with the value to apply if < this. " +
+                    "`jenkins.baseline` follows the minimum version given for it, or else the one given for `jenkins.version`.",
+            example = "jenkins.version: 2.452.4")
+    Map<String, String> minimumVersions;
+
+    String displayName = "Upgrade properties' values to versions";
+
+    String description = "If the current value of any of the properties is < its given version, upgrade it.";
+
+    @Override
+    public Validated<Object> validate() {
+        Validated<Object> validated = super.validate();
+        //noinspection ConstantConditions
+        if (minimumVersions != null) {
+            for (Map.Entry<String, String> minimumVersion : minimumVersions.entrySet()) {
+                validated = validated.and(SemverCache.validate(minimumVersion.getValue()));
+            }
+        }
+        return validated;
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return new UpgradeVersionPropertiesVisitor(
+                minimumVersions,
+                minimumVersions.containsKey(BASELINE) ? BASELINE : "jenkins.version");
+    }
+}
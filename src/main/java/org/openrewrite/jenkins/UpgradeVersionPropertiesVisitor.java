@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.jenkins;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.maven.MavenIsoVisitor;
+import org.openrewrite.semver.VersionComparator;
+import org.openrewrite.xml.tree.Xml;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Collections.singleton;
+
+/**
+ * Upgrades each property whose value is below its minimum version, in a single pass over the pom.
+ * <p>
+ * A value referencing {@code ${jenkins.baseline}} is compared using the baseline, and rewritten to keep
+ * referencing it. When the baseline source property is upgraded, {@code jenkins.baseline} follows it.
+ */
+class UpgradeVersionPropertiesVisitor extends MavenIsoVisitor<ExecutionContext> {
+    private static final String BASELINE = "jenkins.baseline";
+    private static final String UPGRADING_KEY = "upgrading";
+
+    private final Map<String, String> minimumVersions;
+    private final Map<String, VersionComparator> comparators = new HashMap<>();
+
+    /**
+     * The property whose minimum version {@code jenkins.baseline} is upgraded to.
+     */
+    private final @Nullable String baselineSource;
+
+    UpgradeVersionPropertiesVisitor(Map<String, String> minimumVersions, @Nullable String baselineSource) {
+        this.minimumVersions = minimumVersions;
+        this.baselineSource = baselineSource;
+        for (Map.Entry<String, String> minimumVersion : minimumVersions.entrySet()) {
+            VersionComparator comparator = SemverCache.validate(minimumVersion.getValue()).getValue();
+            if (comparator == null) {
+                throw new IllegalArgumentException("Invalid minimum version for " + minimumVersion.getKey() +
+                                                   ": " + minimumVersion.getValue());
+            }
+            comparators.put(minimumVersion.getKey(), comparator);
+        }
+    }
+
+    @Override
+    public Xml.Document visitDocument(Xml.Document document, ExecutionContext ctx) {
+        Map<String, String> properties = getResolutionResult().getPom().getProperties();
+        Set<String> upgrading = new HashSet<>();
+        for (Map.Entry<String, String> minimumVersion : minimumVersions.entrySet()) {
+            String value = properties.get(minimumVersion.getKey());
+            if (value == null) {
+                continue;
+            }
+            if (value.contains("${jenkins.baseline}")) {
+                value = properties.get(BASELINE);
+            }
+            if (comparators.get(minimumVersion.getKey()).upgrade(value, singleton(minimumVersion.getValue())).isPresent()) {
+                upgrading.add(minimumVersion.getKey());
+            }
+        }
+        if (upgrading.isEmpty()) {
+            return document;
+        }
+        getCursor().putMessage(UPGRADING_KEY, upgrading);
+        Xml.Document d = super.visitDocument(document, ctx);
+        if (d != document) {
+            doAfterVisit(new AddPluginsBom(null).getVisitor());
+        }
+        return d;
+    }
+
+    @Override
+    public Xml.Tag visitTag(Xml.Tag tag, ExecutionContext ctx) {
+        Xml.Tag t = super.visitTag(tag, ctx);
+        Set<String> upgrading = getCursor().getNearestMessage(UPGRADING_KEY);
+        if (upgrading == null || !isPropertyTag()) {
+            return t;
+        }
+        // Change the baseline
+        if (BASELINE.equals(t.getName())) {
+            if (baselineSource == null || !upgrading.contains(baselineSource)) {
+                return t;
+            }
+            String minimumVersion = minimumVersions.get(baselineSource);
+            if (isBaseline(minimumVersion)) {
+                return withValue(t, minimumVersion);
+            }
+            return withValue(t, minimumVersion.substring(0, minimumVersion.lastIndexOf('.')));
+        }
+        if (!upgrading.contains(t.getName()) || !t.getValue().isPresent()) {
+            return t;
+        }
+        String minimumVersion = minimumVersions.get(t.getName());
+        String newValue = minimumVersion;
+        if (t.getValue().get().contains("${jenkins.baseline}")) {
+            if (isBaseline(minimumVersion)) {
+                newValue = "${jenkins.baseline}";
+            } else {
+                newValue = "${jenkins.baseline}." + minimumVersion.substring(minimumVersion.lastIndexOf('.') + 1);
+            }
+        }
+        return withValue(t, newValue);
+    }
+
+    private static boolean isBaseline(String version) {
+        return version.matches("\\d+\\.\\d+");
+    }
+
+    private static Xml.Tag withValue(Xml.Tag tag, String value) {
+        return value.equals(tag.getValue().orElse(null)) ? tag : tag.withValue(value);
+    }
+}
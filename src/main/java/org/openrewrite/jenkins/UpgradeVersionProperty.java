@@ -18,17 +18,8 @@ package org.openrewrite.jenkins;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.openrewrite.*;
-import org.openrewrite.marker.SearchResult;
-import org.openrewrite.maven.MavenVisitor;
-import org.openrewrite.semver.Semver;
-import org.openrewrite.semver.VersionComparator;
-import org.openrewrite.xml.ChangeTagValueVisitor;
-import org.openrewrite.xml.tree.Xml;
-import org.openrewrite.xml.tree.Xml.Tag;
 
-import java.util.Optional;
-
-import static java.util.Collections.singleton;
+import static java.util.Collections.singletonMap;
 
 /**
  * Updates the version property unless it is already greater than minimumVersion
@@ -52,63 +43,6 @@ public class UpgradeVersionProperty extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        VersionComparator versionComparator = Semver.validate(minimumVersion, null).getValue();
-        assert versionComparator != null;
-        return Preconditions.check(new MavenVisitor<ExecutionContext>() {
-            @Override
-            public Xml visitDocument(Xml.Document document, ExecutionContext ctx) {
-                String value = getResolutionResult().getPom().getProperties().get(key);
-                if (value == null) {
-                    return document;
-                }
-                if (value.contains("${jenkins.baseline}")) {
-                    value = getResolutionResult().getPom().getProperties().get("jenkins.baseline");
-                }
-                Optional<String> upgrade = versionComparator.upgrade(value, singleton(minimumVersion));
-                if (!upgrade.isPresent()) {
-                    return document;
-                }
-                return SearchResult.found(document);
-            }
-        }, new MavenVisitor<ExecutionContext>() {
-            @Override
-            public Xml visitTag(Tag tag, ExecutionContext ctx) {
-                Xml.Tag t = (Tag) super.visitTag(tag, ctx);
-                if (!isPropertyTag()) {
-                    return t;
-                }
-                // Change the baseline
-                if ("jenkins.baseline".equals(t.getName())) {
-                    if (minimumVersion.matches("\\d+\\.\\d+")) {
-                        doAfterVisit(new ChangeTagValueVisitor<>(t, minimumVersion));
-                        doAfterVisit(new AddPluginsBom().getVisitor());
-                        return t;
-                    }
-                    String minimumBaseline = minimumVersion.substring(0, minimumVersion.lastIndexOf('.'));
-                    doAfterVisit(new ChangeTagValueVisitor<>(t, minimumBaseline));
-                    doAfterVisit(new AddPluginsBom().getVisitor());
-                    return t;
-
-                }
-                if (!t.getName().equals(key)) {
-                    return t;
-                }
-                if (!t.getValue().isPresent()) {
-                    return t;
-                }
-                String newValue = minimumVersion;
-                if (t.getValue().get().contains("${jenkins.baseline}")) {
-                    if (minimumVersion.matches("\\d+\\.\\d+")) {
-                        newValue = "${jenkins.baseline}";
-                    }
-                    else {
-                        newValue = "${jenkins.baseline}." + minimumVersion.substring(minimumVersion.lastIndexOf('.') + 1);
-                    }
-                }
-                doAfterVisit(new ChangeTagValueVisitor<>(t, newValue));
-                doAfterVisit(new AddPluginsBom().getVisitor());
-                return t;
-            }
-        });
+        return new UpgradeVersionPropertiesVisitor(singletonMap(key, minimumVersion), key);
     }
 }
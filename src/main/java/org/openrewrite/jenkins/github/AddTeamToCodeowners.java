@@ -22,11 +22,10 @@ import lombok.Value;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
 import org.openrewrite.internal.StringUtils;
-import org.openrewrite.maven.MavenIsoVisitor;
+import org.openrewrite.jenkins.internal.PomTags;
 import org.openrewrite.text.PlainText;
 import org.openrewrite.text.PlainTextParser;
 import org.openrewrite.text.PlainTextVisitor;
-import org.openrewrite.xml.XPathMatcher;
 import org.openrewrite.xml.tree.Xml;
 
 import java.nio.file.Path;
@@ -67,10 +66,7 @@ public class AddTeamToCodeowners extends ScanningRecipe<AddTeamToCodeowners.Scan
                 if ("CODEOWNERS".equals(fileName)) {
                     acc.foundFile = true;
                 } else if (acc.artifactId == null && "pom.xml".equals(fileName)) {
-                    Xml.Document pom = (Xml.Document) sourceFile;
-                    ArtifactIdExtractor extractor = new ArtifactIdExtractor();
-                    extractor.visit(pom, ctx);
-                    acc.artifactId = extractor.artifactId;
+                    acc.artifactId = PomTags.of((Xml.Document) sourceFile).getArtifactId();
                 }
                 return sourceFile;
             }
@@ -162,18 +158,4 @@ public class AddTeamToCodeowners extends ScanningRecipe<AddTeamToCodeowners.Scan
             return artifactId != null && validator.isValid(teamName());
         }
     }
-
-    private static class ArtifactIdExtractor extends MavenIsoVisitor<ExecutionContext> {
-        private String artifactId = "";
-        private static final XPathMatcher PROJECT_ARTIFACTID_MATCHER = new XPathMatcher("/project/artifactId");
-
-        @Override
-        public Xml.Tag visitTag(Xml.Tag tag, ExecutionContext ctx) {
-            Xml.Tag t = super.visitTag(tag, ctx);
-            if (PROJECT_ARTIFACTID_MATCHER.matches(getCursor())) {
-                artifactId = t.getValue().orElseThrow(() -> new IllegalStateException("Expected to find an artifact id"));
-            }
-            return t;
-        }
-    }
 }
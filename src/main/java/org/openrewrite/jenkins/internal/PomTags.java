@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.jenkins.internal;
+
+import lombok.Value;
+import org.openrewrite.xml.tree.Content;
+import org.openrewrite.xml.tree.Xml;
+
+import java.util.List;
+
+/**
+ * The project's own {@code artifactId} and {@code description}, read from the direct children
+ * of {@code <project>} only. Dependencies, plugins and the rest of the pom are never visited.
+ */
+@Value
+public class PomTags {
+    /**
+     * Empty if the pom has no top level artifactId.
+     */
+    String artifactId;
+
+    /**
+     * Empty if the pom has no top level description.
+     */
+    String description;
+
+    public static PomTags of(Xml.Document pom) {
+        String artifactId = null;
+        String description = null;
+        List<? extends Content> children = pom.getRoot().getContent();
+        if (children != null) {
+            for (Content child : children) {
+                if (!(child instanceof Xml.Tag)) {
+                    continue;
+                }
+                Xml.Tag tag = (Xml.Tag) child;
+                if (artifactId == null && "artifactId".equals(tag.getName())) {
+                    artifactId = tag.getValue().orElseThrow(() -> new IllegalStateException("Expected to find an artifact id"));
+                } else if (description == null && "description".equals(tag.getName())) {
+                    description = tag.getValue().orElse("");
+                }
+                if (artifactId != null && description != null) {
+                    break;
+                }
+            }
+        }
+        return new PomTags(artifactId == null ? "" : artifactId, description == null ? "" : description);
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.jenkins.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class PluginsBomLines extends DataTable<PluginsBomLines.Row> {
+
+    public PluginsBomLines(Recipe recipe) {
+        super(recipe,
+                "Plugins BOM lines",
+                "Where the plugins BOM line of each plugin POM came from, with the totals of the process-wide " +
+                "cache of resolved lines at that point, so a batch of repositories can be checked to resolve each line once.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Source path",
+                description = "The plugin POM.")
+        String sourcePath;
+
+        @Column(displayName = "BOM artifactId",
+                description = "The plugins BOM line the POM should import, such as `bom-2.452.x`.")
+        String bomArtifactId;
+
+        @Column(displayName = "Line source",
+                description = "Where the line's version came from: `offline` for the offline bom versions option, " +
+                        "`lookup` for a local bom lookup directory, `cache` for a line resolved earlier in the process, " +
+                        "`latest.release` when it is resolved now, or `unknown` when it is not in the offline snapshot.")
+        String lineSource;
+
+        @Column(displayName = "Cache hits",
+                description = "Lookups of a resolved line answered by the cache so far in this process.")
+        long cacheHits;
+
+        @Column(displayName = "Cache misses",
+                description = "Lookups of a resolved line the cache could not answer so far in this process.")
+        long cacheMisses;
+
+        @Column(displayName = "Cache evictions",
+                description = "Lines evicted from the cache so far in this process, because it was full or they expired.")
+        long cacheEvictions;
+    }
+}
@@ -15,11 +15,20 @@
  */
 package org.openrewrite.jenkins;
 
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.openrewrite.DocumentExample;
+import org.openrewrite.jenkins.table.PluginsBomLines;
 import org.openrewrite.test.RecipeSpec;
 import org.openrewrite.test.RewriteTest;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicReference;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.openrewrite.maven.Assertions.pomXml;
 
@@ -27,7 +36,14 @@ class AddPluginsBomTest implements RewriteTest {
 
     @Override
     public void defaults(RecipeSpec spec) {
-        spec.recipe(new AddPluginsBom());
+        spec.recipe(new AddPluginsBom(null));
+    }
+
+    @BeforeEach
+    @AfterEach
+    void clearBomLineCache() {
+        // the cache is process-wide, no test may see or leave lines resolved by another
+        BomLineCache.INSTANCE.clear();
     }
 
     @DocumentExample
@@ -77,6 +93,284 @@ class AddPluginsBomTest implements RewriteTest {
         );
     }
 
+    @Test
+    void shouldNotAddBomOfflineIfLineIsUnknown(@TempDir Path tempDir) throws IOException {
+        Path versions = tempDir.resolve("bom-versions.txt");
+        Files.writeString(versions, "bom-2.426.x 3208.vb_21177d4b_cd9\n");
+        // language=xml
+        rewriteRun(
+          spec -> spec.recipe(new AddPluginsBom(versions.toString())),
+          pomXml(
+            """
+              <project>
+                  <parent>
+                      <groupId>org.jenkins-ci.plugins</groupId>
+                      <artifactId>plugin</artifactId>
+                      <version>4.86</version>
+                      <relativePath/>
+                  </parent>
+                  <artifactId>foo</artifactId>
+                  <properties>
+                      <jenkins.version>2.440.3</jenkins.version>
+                  </properties>
+                  <repositories>
+                      <repository>
+                          <id>maven-central</id>
+                          <url>https://repo1.maven.org/maven2/</url>
+                      </repository>
+                      <repository>
+                          <id>repo.jenkins-ci.org</id>
+                          <url>https://repo.jenkins-ci.org/public/</url>
+                      </repository>
+                  </repositories>
+                  <dependencies>
+                      <dependency>
+                          <groupId>org.jenkins-ci.plugins</groupId>
+                          <artifactId>ant</artifactId>
+                          <version>1.9</version>
+                      </dependency>
+                  </dependencies>
+              </project>
+              """
+          )
+        );
+    }
+
+    @Test
+    void shouldPinBomOfflineToLineVersion(@TempDir Path tempDir) throws IOException {
+        Path versions = tempDir.resolve("bom-versions.txt");
+        Files.writeString(versions, """
+          bom-2.440.x 3221.ve8f7b_fdd149d
+            org.jenkins-ci.plugins:ant 1.9
+            io.jenkins.plugins:commons-text-api 1.10.0-27.vb_fa_3896786a_7
+          """);
+        // language=xml
+        rewriteRun(
+          spec -> spec.recipe(new AddPluginsBom(versions.toString())),
+          pomXml(
+            """
+              <project>
+                  <parent>
+                      <groupId>org.jenkins-ci.plugins</groupId>
+                      <artifactId>plugin</artifactId>
+                      <version>4.86</version>
+                      <relativePath/>
+                  </parent>
+                  <artifactId>foo</artifactId>
+                  <properties>
+                      <jenkins.version>2.440.3</jenkins.version>
+                  </properties>
+                  <repositories>
+                      <repository>
+                          <id>maven-central</id>
+                          <url>https://repo1.maven.org/maven2/</url>
+                      </repository>
+                      <repository>
+                          <id>repo.jenkins-ci.org</id>
+                          <url>https://repo.jenkins-ci.org/public/</url>
+                      </repository>
+                  </repositories>
+                  <dependencies>
+                      <dependency>
+                          <groupId>org.jenkins-ci.plugins</groupId>
+                          <artifactId>ant</artifactId>
+                          <version>1.9</version>
+                      </dependency>
+                      <dependency>
+                          <groupId>io.jenkins.plugins</groupId>
+                          <artifactId>commons-text-api</artifactId>
+                          <version>1.9-5.v7ea_44fe6061c</version>
+                      </dependency>
+                  </dependencies>
+              </project>
+              """,
+            spec -> spec.after(after -> {
+                ModernizePluginTest.Versions versionsAfter = ModernizePluginTest.Versions.parse(after);
+                assertThat(versionsAfter.bomArtifactId()).isEqualTo("bom-2.440.x");
+                assertThat(versionsAfter.bomVersion()).isEqualTo("3221.ve8f7b_fdd149d");
+                assertThat(after).contains("""
+                              <artifactId>ant</artifactId>
+                          </dependency>
+                  """);
+                assertThat(after).contains("""
+                              <artifactId>commons-text-api</artifactId>
+                              <version>1.9-5.v7ea_44fe6061c</version>
+                  """);
+                return after;
+            })
+          )
+        );
+    }
+
+    @Test
+    void shouldNotTouchAnyBomOfflineIfLineIsUnknown(@TempDir Path tempDir) throws IOException {
+        Path versions = tempDir.resolve("bom-versions.txt");
+        Files.writeString(versions, "bom-2.426.x 3208.vb_21177d4b_cd9\n");
+        // language=xml
+        rewriteRun(
+          spec -> spec.recipe(new AddPluginsBom(versions.toString())),
+          pomXml(
+            """
+              <project>
+                  <parent>
+                      <groupId>org.jenkins-ci.plugins</groupId>
+                      <artifactId>plugin</artifactId>
+                      <version>4.86</version>
+                      <relativePath/>
+                  </parent>
+                  <artifactId>foo</artifactId>
+                  <properties>
+                      <jenkins.version>2.440.3</jenkins.version>
+                  </properties>
+                  <dependencyManagement>
+                      <dependencies>
+                          <dependency>
+                              <groupId>io.jenkins.tools.bom</groupId>
+                              <artifactId>bom-2.346.x</artifactId>
+                              <version>1706.vc166d5f429f8</version>
+                              <type>pom</type>
+                              <scope>import</scope>
+                          </dependency>
+                          <dependency>
+                              <groupId>io.jenkins.tools.bom</groupId>
+                              <artifactId>bom-2.319.x</artifactId>
+                              <version>1135.va_4eeca_ea_21c1</version>
+                              <type>pom</type>
+                              <scope>import</scope>
+                          </dependency>
+                      </dependencies>
+                  </dependencyManagement>
+                  <repositories>
+                      <repository>
+                          <id>maven-central</id>
+                          <url>https://repo1.maven.org/maven2/</url>
+                      </repository>
+                      <repository>
+                          <id>repo.jenkins-ci.org</id>
+                          <url>https://repo.jenkins-ci.org/public/</url>
+                      </repository>
+                  </repositories>
+                  <dependencies>
+                      <dependency>
+                          <groupId>org.jenkins-ci.plugins</groupId>
+                          <artifactId>ant</artifactId>
+                      </dependency>
+                  </dependencies>
+              </project>
+              """
+          )
+        );
+    }
+
+    @Test
+    void shouldPinNextPomToLineResolvedByFirst() {
+        AtomicReference<String> resolved = new AtomicReference<>();
+        // language=xml
+        String pom = """
+          <project>
+              <parent>
+                  <groupId>org.jenkins-ci.plugins</groupId>
+                  <artifactId>plugin</artifactId>
+                  <version>4.86</version>
+                  <relativePath/>
+              </parent>
+              <artifactId>%s</artifactId>
+              <properties>
+                  <jenkins.version>2.452.4</jenkins.version>
+              </properties>
+              <repositories>
+                  <repository>
+                      <id>maven-central</id>
+                      <url>https://repo1.maven.org/maven2/</url>
+                  </repository>
+                  <repository>
+                      <id>repo.jenkins-ci.org</id>
+                      <url>https://repo.jenkins-ci.org/public/</url>
+                  </repository>
+              </repositories>
+              <dependencies>
+                  <dependency>
+                      <groupId>org.jenkins-ci.plugins</groupId>
+                      <artifactId>ant</artifactId>
+                      <version>1.9</version>
+                  </dependency>
+              </dependencies>
+          </project>
+          """;
+        rewriteRun(
+          spec -> spec.dataTable(PluginsBomLines.Row.class, rows -> {
+              assertThat(rows).singleElement().satisfies(row -> {
+                  assertThat(row.getBomArtifactId()).isEqualTo("bom-2.452.x");
+                  assertThat(row.getLineSource()).isEqualTo("latest.release");
+                  assertThat(row.getCacheMisses()).isEqualTo(1);
+              });
+          }),
+          pomXml(
+            pom.formatted("first"),
+            spec -> spec.after(after -> {
+                resolved.set(ModernizePluginTest.Versions.parse(after).bomVersion());
+                return after;
+            })
+          )
+        );
+        ManagedVersions.Line line = BomLineCache.INSTANCE.get("bom-2.452.x");
+        assertThat(line).isNotNull();
+        assertThat(line.getVersion()).isEqualTo(resolved.get());
+
+        rewriteRun(
+          spec -> spec.dataTable(PluginsBomLines.Row.class, rows -> {
+              assertThat(rows).singleElement().satisfies(row -> {
+                  assertThat(row.getLineSource()).isEqualTo("cache");
+                  assertThat(row.getCacheHits()).isEqualTo(1);
+                  assertThat(row.getCacheMisses()).isEqualTo(1);
+              });
+          }),
+          pomXml(
+            pom.formatted("second"),
+            spec -> spec.after(after -> {
+                assertThat(ModernizePluginTest.Versions.parse(after).bomVersion()).isEqualTo(resolved.get());
+                return after;
+            })
+          )
+        );
+    }
+
+    @Test
+    void shouldNotAddBomToNonPluginPom() {
+        // language=xml
+        rewriteRun(
+          pomXml(
+            """
+              <project>
+                  <groupId>org.example</groupId>
+                  <artifactId>example-library</artifactId>
+                  <version>1.0</version>
+                  <properties>
+                      <jenkins.version>2.440.3</jenkins.version>
+                  </properties>
+                  <repositories>
+                      <repository>
+                          <id>maven-central</id>
+                          <url>https://repo1.maven.org/maven2/</url>
+                      </repository>
+                      <repository>
+                          <id>repo.jenkins-ci.org</id>
+                          <url>https://repo.jenkins-ci.org/public/</url>
+                      </repository>
+                  </repositories>
+                  <dependencies>
+                      <dependency>
+                          <groupId>org.jenkins-ci.plugins</groupId>
+                          <artifactId>ant</artifactId>
+                          <version>1.9</version>
+                      </dependency>
+                  </dependencies>
+              </project>
+              """
+          )
+        );
+    }
+
     @Test
     void shouldNotAddBomIfNoDependencies() {
         // language=xml
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.jenkins;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BomLineCacheTest {
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void shouldResolveEachLineOnce() {
+        BomLineCache cache = new BomLineCache(8, 1000, now::get);
+        assertThat(cache.get("bom-2.452.x")).isNull();
+        cache.put(line("bom-2.452.x", "3850.vb_c5319efa_e29"));
+        for (int i = 0; i < 2000; i++) {
+            assertThat(cache.get("bom-2.452.x").getVersion()).isEqualTo("3850.vb_c5319efa_e29");
+        }
+        assertThat(cache.getMisses()).isEqualTo(1);
+        assertThat(cache.getHits()).isEqualTo(2000);
+        assertThat(cache.get("bom-2.462.x")).isNull();
+        assertThat(cache.getMisses()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedLine() {
+        BomLineCache cache = new BomLineCache(2, 1000, now::get);
+        cache.put(line("bom-2.426.x", "1"));
+        cache.put(line("bom-2.440.x", "2"));
+        assertThat(cache.get("bom-2.426.x")).isNotNull();
+        cache.put(line("bom-2.452.x", "3"));
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getEvictions()).isEqualTo(1);
+        assertThat(cache.get("bom-2.440.x")).isNull();
+        assertThat(cache.get("bom-2.426.x")).isNotNull();
+        assertThat(cache.get("bom-2.452.x")).isNotNull();
+    }
+
+    @Test
+    void shouldExpireLines() {
+        BomLineCache cache = new BomLineCache(8, 1000, now::get);
+        cache.put(line("bom-2.452.x", "1"));
+        now.addAndGet(999);
+        assertThat(cache.get("bom-2.452.x")).isNotNull();
+        now.addAndGet(1);
+        assertThat(cache.get("bom-2.452.x")).isNull();
+        assertThat(cache.getEvictions()).isEqualTo(1);
+        assertThat(cache.size()).isZero();
+    }
+
+    private static ManagedVersions.Line line(String artifactId, String version) {
+        ManagedVersions.LineBuilder builder = new ManagedVersions.LineBuilder(artifactId, version);
+        builder.add("org.jenkins-ci.plugins:ant", "511.v0a_a_1a_334f41b_");
+        return builder.build();
+    }
+}
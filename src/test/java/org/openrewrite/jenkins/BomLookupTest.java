@@ -18,7 +18,23 @@ package org.openrewrite.jenkins;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvFileSource;
+import org.openrewrite.maven.tree.Dependency;
+import org.openrewrite.maven.tree.GroupArtifactVersion;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 
 class BomLookupTest {
@@ -36,4 +52,71 @@ class BomLookupTest {
     void shouldLookupByGroupIdAndArtifactId(String groupId, String artifactId) {
         assertThat(bomLookup.inBom(groupId, artifactId)).isTrue();
     }
+
+    @Test
+    void shouldLookupDependencyListInBatch() {
+        List<Dependency> dependencies = asList(
+          dependency("io.jenkins.plugins", "theme-manager"),
+          dependency("io.jenkins.plugins", "commons-lang3-api"),
+          dependency("com.lmax", "disruptor"),
+          dependency("org.jenkins-ci.plugins", "artifactory"),
+          dependency("org.jenkins-ci.plugins", "ant")
+        );
+
+        BitSet inBom = bomLookup.inBom(dependencies);
+
+        BitSet expected = new BitSet();
+        expected.set(0);
+        expected.set(1);
+        expected.set(4);
+        assertThat(inBom).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldLookupConcurrently() throws Exception {
+        List<String> coordinates = coordinates();
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            AtomicInteger misses = new AtomicInteger();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    // each thread uses its own instance, like separate recipe runs
+                    BomLookup lookup = new BomLookup();
+                    start.await();
+                    for (int i = 0; i < 100; i++) {
+                        for (String coordinate : coordinates) {
+                            String[] ga = coordinate.split(":");
+                            if (!lookup.inBom(ga[0], ga[1]) || lookup.inBom(ga[0], ga[1] + "-missing")) {
+                                misses.incrementAndGet();
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+            assertThat(misses).hasValue(0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Dependency dependency(String groupId, String artifactId) {
+        return Dependency.builder()
+          .gav(new GroupArtifactVersion(groupId, artifactId, "1.0"))
+          .build();
+    }
+
+    private static List<String> coordinates() throws IOException {
+        try (InputStream is = BomLookupTest.class.getResourceAsStream("/jenkins-plugins-bom-lookup.txt");
+             BufferedReader br = new BufferedReader(new InputStreamReader(Objects.requireNonNull(is), StandardCharsets.UTF_8))) {
+            return br.lines().map(String::trim).filter(line -> !line.isEmpty()).collect(toList());
+        }
+    }
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.jenkins;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CoordinateIndexTest {
+
+    @Test
+    void shouldNotMatchAcrossCoordinates() {
+        CoordinateIndex index = CoordinateIndex.builder()
+          .add("io.jenkins.plugins", "theme-manager")
+          .add("org.jenkins-ci.plugins", "ant")
+          .build();
+
+        assertThat(index.contains("io.jenkins.plugins", "theme-manager")).isTrue();
+        assertThat(index.contains("org.jenkins-ci.plugins", "ant")).isTrue();
+        assertThat(index.contains("io.jenkins.plugins", "ant")).isFalse();
+        assertThat(index.contains("org.jenkins-ci.plugins", "theme-manager")).isFalse();
+        assertThat(index.contains("org.jenkins-ci.plugins", "artifactory")).isFalse();
+    }
+
+    @Test
+    void shouldIndexInSortedOrder() {
+        CoordinateIndex index = CoordinateIndex.builder()
+          .add("org.jenkins-ci.plugins", "ant")
+          .add("io.jenkins.plugins", "theme-manager")
+          .add("io.jenkins.plugins", "commons-lang3-api")
+          .build();
+
+        assertThat(index.indexOf("io.jenkins.plugins", "commons-lang3-api")).isEqualTo(0);
+        assertThat(index.indexOf("io.jenkins.plugins", "theme-manager")).isEqualTo(1);
+        assertThat(index.indexOf("org.jenkins-ci.plugins", "ant")).isEqualTo(2);
+        assertThat(index.indexOf("org.jenkins-ci.plugins", "theme-manager")).isEqualTo(-1);
+    }
+
+    @Test
+    void shouldGrowBeyondInitialCapacity() {
+        CoordinateIndex.Builder builder = CoordinateIndex.builder();
+        for (int i = 0; i < 1_000; i++) {
+            builder.add("group" + i % 7, "artifact" + i);
+        }
+        CoordinateIndex index = builder.build();
+
+        assertThat(index.size()).isEqualTo(1_000);
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(index.contains("group" + i % 7, "artifact" + i)).isTrue();
+        }
+        assertThat(index.contains("group0", "artifact1")).isFalse();
+    }
+
+    @Test
+    void shouldReadWhatWasWritten() throws IOException {
+        CoordinateIndex index;
+        try (InputStream is = Objects.requireNonNull(getClass().getResourceAsStream(BomLookup.LOOKUP_RESOURCE))) {
+            index = CoordinateIndex.readText(is);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        index.write(bytes);
+        CoordinateIndex read = CoordinateIndex.read(new ByteArrayInputStream(bytes.toByteArray()));
+
+        assertThat(read.size()).isEqualTo(index.size());
+        assertThat(read.contains("io.jenkins.plugins", "theme-manager")).isTrue();
+        assertThat(read.contains("org.jenkins-ci.plugins", "artifactory")).isFalse();
+    }
+
+    @Test
+    void shouldRejectUnknownBinaryFormat() {
+        assertThatThrownBy(() -> CoordinateIndex.read(new ByteArrayInputStream(new byte[8])))
+          .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void shouldIgnoreDuplicates() {
+        CoordinateIndex index = CoordinateIndex.builder()
+          .add("io.jenkins.plugins:theme-manager")
+          .add("io.jenkins.plugins", "theme-manager")
+          .build();
+
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectMalformedCoordinate() {
+        assertThatThrownBy(() -> CoordinateIndex.builder().add("theme-manager"))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -17,9 +17,22 @@ package org.openrewrite.jenkins;
 
 import org.junit.jupiter.api.Test;
 import org.openrewrite.DocumentExample;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.SourceFile;
+import org.openrewrite.maven.MavenParser;
 import org.openrewrite.test.RecipeSpec;
 import org.openrewrite.test.RewriteTest;
+import org.openrewrite.text.PlainText;
+import org.openrewrite.text.PlainTextParser;
 
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.openrewrite.java.Assertions.mavenProject;
 import static org.openrewrite.java.Assertions.srcMainResources;
 import static org.openrewrite.maven.Assertions.pomXml;
@@ -253,4 +266,63 @@ class CreateIndexJellyTest implements RewriteTest {
                 """)))
         );
     }
+
+    @Test
+    void shouldScanModulesInParallel() {
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        MavenParser parser = MavenParser.builder().build();
+        List<SourceFile> sourceFiles = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            String module = "plugin-" + i;
+            //language=xml
+            sourceFiles.add(parser.parse(ctx, """
+              <project>
+                  <groupId>org.example</groupId>
+                  <artifactId>%s</artifactId>
+                  <version>0.1</version>
+                  <description>Module %d</description>
+                  <dependencyManagement>
+                      <dependencies>
+                          <dependency>
+                              <groupId>org.jenkins-ci.main</groupId>
+                              <artifactId>jenkins-core</artifactId>
+                              <version>2.452.4</version>
+                          </dependency>
+                      </dependencies>
+                  </dependencyManagement>
+              </project>
+              """.formatted(module, i)).findFirst().orElseThrow().withSourcePath(Paths.get(module, "pom.xml")));
+            if (i % 2 == 0) {
+                sourceFiles.add(new PlainTextParser().parse("").findFirst().orElseThrow()
+                  .withSourcePath(Paths.get(module, "src/main/resources/index.jelly")));
+            }
+        }
+        List<String> expected = IntStream.range(0, 32)
+          .filter(i -> i % 2 == 1)
+          .mapToObj(i -> Paths.get("plugin-" + i, "src/main/resources/index.jelly").toString())
+          .sorted()
+          .collect(toList());
+
+        CreateIndexJelly recipe = new CreateIndexJelly();
+        CreateIndexJelly.Scanned shared = recipe.getInitialValue(ctx);
+        sourceFiles.parallelStream().forEach(s -> recipe.getScanner(shared).visit(s, ctx));
+        assertThat(generatedPaths(recipe, shared, ctx)).isEqualTo(expected);
+
+        CreateIndexJelly.Scanned merged = sourceFiles.parallelStream()
+          .map(s -> {
+              CreateIndexJelly.Scanned acc = recipe.getInitialValue(ctx);
+              recipe.getScanner(acc).visit(s, ctx);
+              return acc;
+          })
+          .reduce(CreateIndexJelly.Scanned::merge)
+          .orElseThrow();
+        assertThat(generatedPaths(recipe, merged, ctx)).isEqualTo(expected);
+    }
+
+    private static List<String> generatedPaths(CreateIndexJelly recipe, CreateIndexJelly.Scanned acc, ExecutionContext ctx) {
+        return recipe.generate(acc, ctx).stream()
+          .map(PlainText::getSourcePath)
+          .map(Object::toString)
+          .collect(toList());
+    }
 }
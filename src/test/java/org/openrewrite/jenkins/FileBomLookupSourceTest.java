@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.jenkins;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileBomLookupSourceTest {
+
+    @Test
+    void shouldPickUpChangesToWatchedFile(@TempDir Path dir) throws Exception {
+        Path lookup = Files.write(dir.resolve("jenkins-plugins-bom-lookup.txt"), "io.jenkins.plugins:theme-manager\n".getBytes());
+        try (FileBomLookupSource source = FileBomLookupSource.watching(lookup)) {
+            BomLookup bomLookup = new BomLookup(source);
+            assertThat(bomLookup.inBom("io.jenkins.plugins", "theme-manager")).isTrue();
+            assertThat(bomLookup.inBom("org.jenkins-ci.plugins", "ant")).isFalse();
+
+            Files.write(lookup, "io.jenkins.plugins:theme-manager\norg.jenkins-ci.plugins:ant\n".getBytes());
+
+            assertThat(eventually(() -> bomLookup.inBom("org.jenkins-ci.plugins", "ant"))).isTrue();
+            assertThat(bomLookup.inBom("io.jenkins.plugins", "theme-manager")).isTrue();
+        }
+    }
+
+    @Test
+    void shouldReadDirectoryWithManagedVersions(@TempDir Path dir) throws IOException {
+        Files.write(dir.resolve("jenkins-plugins-bom-lookup.txt"), "org.jenkins-ci.plugins:ant\n".getBytes());
+        Files.write(dir.resolve("jenkins-plugins-bom-versions.txt"), ("" +
+                "bom-2.452.x 3850.vb_c5319efa_e29\n" +
+                "  org.jenkins-ci.plugins:ant 511.v0a_a_1a_334f41b_\n").getBytes());
+        try (FileBomLookupSource source = FileBomLookupSource.watching(dir)) {
+            BomLookup bomLookup = new BomLookup(source);
+            assertThat(bomLookup.inBom("org.jenkins-ci.plugins", "ant")).isTrue();
+            ManagedVersions.Line line = bomLookup.line("bom-2.452.x");
+            assertThat(line).isNotNull();
+            assertThat(line.managedVersion("org.jenkins-ci.plugins", "ant")).isEqualTo("511.v0a_a_1a_334f41b_");
+        }
+    }
+
+    @Test
+    void shouldReadLookupFileModifiedAfterIndex(@TempDir Path dir) throws IOException {
+        Path idx = dir.resolve("jenkins-plugins-bom-lookup.idx");
+        try (OutputStream os = Files.newOutputStream(idx)) {
+            CoordinateIndex.builder().add("io.jenkins.plugins:theme-manager").build().write(os);
+        }
+        Files.setLastModifiedTime(idx, FileTime.fromMillis(1_000_000));
+        Path txt = Files.write(dir.resolve("jenkins-plugins-bom-lookup.txt"), "io.jenkins.plugins:theme-manager
+".getBytes());
+        Files.setLastModifiedTime(txt, FileTime.fromMillis(500_000));
+        try (FileBomLookupSource source = FileBomLookupSource.watching(dir)) {
+            BomLookup bomLookup = new BomLookup(source);
+            assertThat(bomLookup.inBom("org.jenkins-ci.plugins", "ant")).isFalse();
+
+            Files.write(txt, "io.jenkins.plugins:theme-manager\norg.jenkins-ci.plugins:ant\n".getBytes());
+            Files.setLastModifiedTime(txt, FileTime.fromMillis(2_000_000));
+            source.reload();
+
+            assertThat(bomLookup.inBom("org.jenkins-ci.plugins", "ant")).isTrue();
+        }
+    }
+
+    @Test
+    void shouldKeepSnapshotWhenReloadFails(@TempDir Path dir) throws IOException {
+        Path lookup = Files.write(dir.resolve("lookup.txt"), "org.jenkins-ci.plugins:ant\n".getBytes());
+        try (FileBomLookupSource source = FileBomLookupSource.watching(lookup)) {
+            BomLookupSource.Snapshot before = source.snapshot();
+            Files.write(lookup, "not a coordinate\n".getBytes());
+
+            source.reload();
+
+            assertThat(source.snapshot()).isSameAs(before);
+            assertThat(source.getLastReloadFailure()).isNotNull();
+        }
+    }
+
+    private static boolean eventually(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (System.nanoTime() < deadline) {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            Thread.sleep(50);
+        }
+        return false;
+    }
+}
@@ -19,6 +19,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.SourceFile;
+import org.openrewrite.maven.MavenParser;
 
 import java.util.stream.Stream;
 
@@ -41,6 +45,77 @@ class JenkinsTest {
     void shouldGenerateBomNameWithBaseline() {
         assertThat(Jenkins.bomNameForJenkinsVersion("${jenkins.baseline}.3")).isEqualTo("bom-${jenkins.baseline}.x");
         assertThat(Jenkins.bomNameForJenkinsVersion("${jenkins.baseline}.1")).isEqualTo("bom-${jenkins.baseline}.x");
+        assertThat(Jenkins.bomNameForJenkinsVersion("${jenkins.baseline}.12")).isEqualTo("bom-${jenkins.baseline}.x");
+        assertThat(Jenkins.bomNameForJenkinsVersion("${jenkins.baseline}")).isEqualTo("bom-weekly");
+    }
+
+    @Test
+    void shouldRememberJenkinsPluginPomForTheRun() {
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        //language=xml
+        SourceFile pom = MavenParser.builder().build().parse(ctx, """
+          <project>
+              <groupId>org.example</groupId>
+              <artifactId>example-plugin</artifactId>
+              <version>1.0</version>
+              <dependencyManagement>
+                  <dependencies>
+                      <dependency>
+                          <groupId>org.jenkins-ci.main</groupId>
+                          <artifactId>jenkins-core</artifactId>
+                          <version>2.452.4</version>
+                      </dependency>
+                  </dependencies>
+              </dependencyManagement>
+          </project>
+          """).findFirst().orElseThrow();
+
+        assertThat(Jenkins.isJenkinsPluginPom(pom, ctx)).isEqualTo("2.452.4");
+        assertThat(Jenkins.isJenkinsPluginPom(pom, ctx)).isEqualTo("2.452.4");
+        assertThat(Jenkins.isJenkinsPluginPom(pom, ctx)).isEqualTo("2.452.4");
+
+        PluginPomCache cache = PluginPomCache.of(ctx);
+        assertThat(cache.getMisses()).isEqualTo(1);
+        assertThat(cache.getHits()).isEqualTo(2);
+        assertThat(cache.getHitRate()).isEqualTo(2.0 / 3);
+        assertThat(PluginPomCache.of(new InMemoryExecutionContext()).getHits()).isZero();
+    }
+
+    @Test
+    void shouldMatchOnlyPluginPomsInPrecondition() {
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        MavenParser parser = MavenParser.builder().build();
+        //language=xml
+        SourceFile plugin = parser.parse(ctx, """
+          <project>
+              <groupId>org.example</groupId>
+              <artifactId>example-plugin</artifactId>
+              <version>1.0</version>
+              <dependencyManagement>
+                  <dependencies>
+                      <dependency>
+                          <groupId>org.jenkins-ci.main</groupId>
+                          <artifactId>jenkins-core</artifactId>
+                          <version>2.452.4</version>
+                      </dependency>
+                  </dependencies>
+              </dependencyManagement>
+          </project>
+          """).findFirst().orElseThrow();
+        //language=xml
+        SourceFile library = parser.parse(ctx, """
+          <project>
+              <groupId>org.example</groupId>
+              <artifactId>example-library</artifactId>
+              <version>1.0</version>
+              <properties>
+                  <jenkins.version>2.452.4</jenkins.version>
+              </properties>
+          </project>
+          """).findFirst().orElseThrow();
+
+        assertThat(Jenkins.pluginPomPrecondition().visit(plugin, ctx)).isNotSameAs(plugin);
+        assertThat(Jenkins.pluginPomPrecondition().visit(library, ctx)).isSameAs(library);
     }
 
     static Stream<Arguments> versionToBom() {
@@ -49,10 +124,14 @@ class JenkinsTest {
           arguments("2.319.1", "bom-2.319.x"),
           arguments("2.361.4", "bom-2.361.x"),
           arguments("2.401.2", "bom-2.401.x"),
+          arguments("2.479.10", "bom-2.479.x"),
           arguments("2.384", "bom-weekly"),
           arguments("2.401", "bom-weekly"),
           arguments("888888-SNAPSHOT", "bom-weekly"),
-          arguments("2.379-rc33114.2f90818f6a_35", "bom-weekly")
+          arguments("2.379-rc33114.2f90818f6a_35", "bom-weekly"),
+          arguments("2.452.", "bom-weekly"),
+          arguments("2.452.4-SNAPSHOT", "bom-weekly"),
+          arguments("", "bom-weekly")
         );
     }
 }
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.jenkins;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JenkinsVersionTest {
+
+    @Test
+    void lts() {
+        JenkinsVersion version = JenkinsVersion.parse("2.452.4");
+        assertThat(version.getKind()).isEqualTo(JenkinsVersion.Kind.LTS);
+        assertThat(version.getLine()).isEqualTo("2.452");
+        assertThat(version.getPatch()).isEqualTo(4);
+    }
+
+    @Test
+    void baseline() {
+        JenkinsVersion version = JenkinsVersion.parse("${jenkins.baseline}.3");
+        assertThat(version.getKind()).isEqualTo(JenkinsVersion.Kind.BASELINE);
+        assertThat(version.getLine()).isEqualTo("${jenkins.baseline}");
+        assertThat(version.getPatch()).isEqualTo(3);
+    }
+
+    @Test
+    void weekly() {
+        JenkinsVersion version = JenkinsVersion.parse("2.462");
+        assertThat(version.getKind()).isEqualTo(JenkinsVersion.Kind.WEEKLY);
+        assertThat(version.getLine()).isNull();
+        assertThat(version.getPatch()).isEqualTo(-1);
+    }
+
+    @Test
+    void repeatedVersionsAreNotReparsed() {
+        assertThat(JenkinsVersion.parse("2.401.3")).isSameAs(JenkinsVersion.parse("2.401.3"));
+    }
+}
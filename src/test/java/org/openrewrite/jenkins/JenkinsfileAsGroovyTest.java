@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.jenkins;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.PrintOutputCapture;
+import org.openrewrite.Recipe;
+import org.openrewrite.Result;
+import org.openrewrite.SourceFile;
+import org.openrewrite.config.CompositeRecipe;
+import org.openrewrite.groovy.tree.G;
+import org.openrewrite.internal.InMemoryLargeSourceSet;
+import org.openrewrite.text.PlainText;
+import org.openrewrite.text.PlainTextParser;
+import org.openrewrite.text.PlainTextVisitor;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.singletonList;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.test.RewriteTest.toRecipe;
+
+class JenkinsfileAsGroovyTest {
+
+    @Test
+    void parsesSingleJenkinsfile() {
+        //language=groovy
+        PlainText jenkinsfile = plainText("Jenkinsfile", """
+                buildPlugin()
+                """);
+
+        List<Result> results = new JenkinsfileAsGroovy(null)
+                .run(new InMemoryLargeSourceSet(singletonList(jenkinsfile)), new InMemoryExecutionContext())
+                .getChangeset().getAllResults();
+
+        assertThat(results).hasSize(1);
+        SourceFile after = results.getFirst().getAfter();
+        assertThat(after).isInstanceOf(G.CompilationUnit.class);
+        assertThat(after.getId()).isEqualTo(jenkinsfile.getId());
+        assertThat(after.getSourcePath()).isEqualTo(jenkinsfile.getSourcePath());
+        assertThat(print(after)).isEqualTo(jenkinsfile.getText());
+    }
+
+    @Test
+    void parsesManyJenkinsfilesInBatch() {
+        List<SourceFile> before = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            //language=groovy
+            before.add(plainText("plugin-" + i + "/Jenkinsfile", """
+                    buildPlugin(useContainerAgent: true, configurations: [
+                      [platform: 'linux', jdk: %d],
+                    ])
+                    """.formatted(17 + i % 5)));
+        }
+        before.add(plainText("README.md", "# Not a Jenkinsfile\n"));
+
+        List<Result> results = new JenkinsfileAsGroovy(null)
+                .run(new InMemoryLargeSourceSet(before), new InMemoryExecutionContext())
+                .getChangeset().getAllResults();
+
+        assertThat(results).hasSize(20);
+        Map<Path, SourceFile> afterByPath = results.stream()
+                .map(Result::getAfter)
+                .collect(toMap(SourceFile::getSourcePath, identity()));
+        for (SourceFile original : before.subList(0, 20)) {
+            SourceFile after = afterByPath.get(original.getSourcePath());
+            assertThat(after).isInstanceOf(G.CompilationUnit.class);
+            assertThat(after.getId()).isEqualTo(original.getId());
+            assertThat(print(after)).isEqualTo(((PlainText) original).getText());
+        }
+    }
+
+    @Test
+    void movesMisplacedShebangBeforeParsing() {
+        //language=groovy
+        PlainText jenkinsfile = plainText("Jenkinsfile", """
+                // Refer below link more Jenkinsfile Params info
+                #!groovy
+                buildPlugin()
+                """);
+
+        List<Result> results = new JenkinsfileAsGroovy(null)
+                .run(new InMemoryLargeSourceSet(singletonList(jenkinsfile)), new InMemoryExecutionContext())
+                .getChangeset().getAllResults();
+
+        assertThat(results).hasSize(1);
+        SourceFile after = results.getFirst().getAfter();
+        assertThat(after).isInstanceOf(G.CompilationUnit.class);
+        assertThat(print(after)).isEqualTo("""
+                #!groovy
+                // Refer below link more Jenkinsfile Params info
+                buildPlugin()
+                """);
+    }
+
+    @Test
+    void leavesShebangInsideStringAlone() {
+        //language=groovy
+        PlainText jenkinsfile = plainText("Jenkinsfile", """
+                // Build with a shell script
+                node {
+                  sh '''
+                #!/bin/bash -xe
+                mvn verify
+                '''
+                }
+                """);
+
+        List<Result> results = new JenkinsfileAsGroovy(null)
+                .run(new InMemoryLargeSourceSet(singletonList(jenkinsfile)), new InMemoryExecutionContext())
+                .getChangeset().getAllResults();
+
+        assertThat(results).hasSize(1);
+        SourceFile after = results.getFirst().getAfter();
+        assertThat(after).isInstanceOf(G.CompilationUnit.class);
+        assertThat(print(after)).isEqualTo(jenkinsfile.getText());
+    }
+
+    @Test
+    void keepsEditsMadeAfterScanning() {
+        List<SourceFile> before = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            //language=groovy
+            before.add(plainText("plugin-" + i + "/Jenkinsfile", """
+                    buildPlugin(jdkVersions: [11])
+                    """));
+        }
+        Recipe editsText = toRecipe(() -> new PlainTextVisitor<>() {
+            @Override
+            public PlainText visitText(PlainText text, ExecutionContext ctx) {
+                return text.withText(text.getText().replace("11", "17"));
+            }
+        });
+
+        List<Result> results = new CompositeRecipe(List.of(editsText, new JenkinsfileAsGroovy(null)))
+                .run(new InMemoryLargeSourceSet(before), new InMemoryExecutionContext())
+                .getChangeset().getAllResults();
+
+        assertThat(results).hasSize(2);
+        for (Result result : results) {
+            assertThat(result.getAfter()).isInstanceOf(G.CompilationUnit.class);
+            assertThat(print(result.getAfter())).isEqualTo("""
+                    buildPlugin(jdkVersions: [17])
+                    """);
+        }
+    }
+
+    private static String print(SourceFile sourceFile) {
+        return sourceFile.printAll(new PrintOutputCapture<>(0, PrintOutputCapture.MarkerPrinter.SANITIZED));
+    }
+
+    private static PlainText plainText(String path, String text) {
+        return PlainTextParser.builder().build()
+                .parse(text)
+                .findFirst()
+                .map(PlainText.class::cast)
+                .orElseThrow()
+                .withSourcePath(Path.of(path));
+    }
+}
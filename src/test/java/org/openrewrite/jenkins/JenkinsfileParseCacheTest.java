@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.jenkins;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.SourceFile;
+import org.openrewrite.groovy.GroovyParser;
+import org.openrewrite.groovy.tree.G;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JenkinsfileParseCacheTest {
+    private final AtomicInteger parses = new AtomicInteger();
+
+    @Test
+    void shouldParseIdenticalJenkinsfilesOnce() {
+        JenkinsfileParseCache cache = new JenkinsfileParseCache(8);
+        SourceFile first = cache.parse("buildPlugin()\n", this::parse).orElseThrow();
+        SourceFile second = cache.parse("buildPlugin()\n", this::parse).orElseThrow();
+
+        assertThat(parses.get()).isEqualTo(1);
+        assertThat(cache.getMisses()).isEqualTo(1);
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(second).isInstanceOf(G.CompilationUnit.class);
+        assertThat(second.printAll()).isEqualTo(first.printAll());
+        assertThat(second.getId()).isNotEqualTo(first.getId());
+        assertThat(((G.CompilationUnit) second).getStatements().getFirst().getId())
+                .isNotEqualTo(((G.CompilationUnit) first).getStatements().getFirst().getId());
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedJenkinsfile() {
+        JenkinsfileParseCache cache = new JenkinsfileParseCache(2);
+        cache.parse("buildPlugin()\n", this::parse);
+        cache.parse("buildPluginWithGradle()\n", this::parse);
+        cache.parse("buildPlugin()\n", this::parse);
+        cache.parse("buildPlugin(useContainerAgent: true)\n", this::parse);
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getEvictions()).isEqualTo(1);
+
+        cache.parse("buildPlugin()\n", this::parse);
+        assertThat(parses.get()).isEqualTo(3);
+        cache.parse("buildPluginWithGradle()\n", this::parse);
+        assertThat(parses.get()).isEqualTo(4);
+    }
+
+    private Optional<SourceFile> parse(String source) {
+        parses.incrementAndGet();
+        return GroovyParser.builder().build().parse(source).findFirst();
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.jenkins;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JenkinsfileShebangTest {
+
+    @Test
+    void shouldMoveMisplacedShebangToFirstLine() {
+        assertThat(JenkinsfileShebang.normalize("// comment\n#!groovy\nbuildPlugin()\n"))
+                .isEqualTo("#!groovy\n// comment\nbuildPlugin()\n");
+        assertThat(JenkinsfileShebang.normalize("// comment\r\n#!/usr/bin/env groovy\r\nbuildPlugin()\r\n"))
+                .isEqualTo("#!/usr/bin/env groovy\r\n// comment\r\nbuildPlugin()\r\n");
+    }
+
+    @Test
+    void shouldLeaveWellPlacedOrMissingShebangAlone() {
+        String first = "#!groovy\nbuildPlugin()\n";
+        assertThat(JenkinsfileShebang.normalize(first)).isSameAs(first);
+        String none = "buildPlugin()\n";
+        assertThat(JenkinsfileShebang.normalize(none)).isSameAs(none);
+        String inString = "echo 'not a #!shebang'\n";
+        assertThat(JenkinsfileShebang.normalize(inString)).isSameAs(inString);
+    }
+
+    @Test
+    void shouldMoveShebangAfterAnyLeadingComments() {
+        assertThat(JenkinsfileShebang.normalize("\n/*\n * License\n */\n// comment\n#!groovy\nbuildPlugin()\n"))
+                .isEqualTo("#!groovy\n\n/*\n * License\n */\n// comment\nbuildPlugin()\n");
+        assertThat(JenkinsfileShebang.normalize("// comment\n#!groovy"))
+                .isEqualTo("#!groovy\n// comment\n");
+    }
+
+    @Test
+    void shouldLeaveShebangInsideStringAlone() {
+        String script = """
+                pipeline {
+                  stages {
+                    stage('Build') {
+                      steps {
+                        sh '''
+                #!/bin/bash -xe
+                mvn verify
+                '''
+                      }
+                    }
+                  }
+                }
+                """;
+        assertThat(JenkinsfileShebang.normalize(script)).isSameAs(script);
+        String afterComment = "// build\nsh '''\n#!/bin/bash -xe\nmvn verify\n'''\n";
+        assertThat(JenkinsfileShebang.normalize(afterComment)).isSameAs(afterComment);
+    }
+}
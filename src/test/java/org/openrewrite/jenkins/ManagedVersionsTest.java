@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.jenkins;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ManagedVersionsTest {
+
+    @Test
+    void shouldLookupVersionsPerLine() throws IOException {
+        ManagedVersions versions = read("""
+          # comment
+          bom-2.440.x 3120.v4d898e1e09fc
+            io.jenkins.plugins:theme-manager 215.vc1ff18d67920
+            org.jenkins-ci.plugins:ant 497.v94e7d9fffa_b_9
+
+          bom-2.452.x 3850.vb_c5319efa_e29
+            org.jenkins-ci.plugins:ant 511.v0a_a_1a_334f41b_
+          """);
+
+        assertThat(versions.size()).isEqualTo(2);
+        ManagedVersions.Line line = versions.line("bom-2.440.x");
+        assertThat(line).isNotNull();
+        assertThat(line.getVersion()).isEqualTo("3120.v4d898e1e09fc");
+        assertThat(line.managedVersion("io.jenkins.plugins", "theme-manager")).isEqualTo("215.vc1ff18d67920");
+        assertThat(line.managedVersion("org.jenkins-ci.plugins", "ant")).isEqualTo("497.v94e7d9fffa_b_9");
+
+        ManagedVersions.Line newer = versions.line("bom-2.452.x");
+        assertThat(newer).isNotNull();
+        assertThat(newer.manages("io.jenkins.plugins", "theme-manager")).isFalse();
+        assertThat(newer.managedVersion("org.jenkins-ci.plugins", "ant")).isEqualTo("511.v0a_a_1a_334f41b_");
+
+        assertThat(versions.line("bom-weekly")).isNull();
+    }
+
+    @Test
+    void shouldRejectVersionOutsideBom() {
+        assertThatThrownBy(() -> read("  org.jenkins-ci.plugins:ant 497.v94e7d9fffa_b_9\n"))
+          .isInstanceOf(IOException.class);
+    }
+
+    private static ManagedVersions read(String text) throws IOException {
+        return ManagedVersions.readText(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)));
+    }
+}
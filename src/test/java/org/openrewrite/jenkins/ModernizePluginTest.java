@@ -16,6 +16,8 @@
 package org.openrewrite.jenkins;
 
 import org.intellij.lang.annotations.Language;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openrewrite.DocumentExample;
 import org.openrewrite.java.JavaParser;
@@ -62,6 +64,13 @@ class ModernizePluginTest implements RewriteTest {
         spec.recipeFromResources("org.openrewrite.jenkins.ModernizePlugin");
     }
 
+    @BeforeEach
+    @AfterEach
+    void clearBomLineCache() {
+        // the cache is process-wide, no test may see or leave lines resolved by another
+        BomLineCache.INSTANCE.clear();
+    }
+
     @DocumentExample
     @Test
     void shouldDoTheWorks() {
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.jenkins;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.maven.MavenIsoVisitor;
+import org.openrewrite.maven.RemoveRedundantDependencyVersions;
+import org.openrewrite.maven.tree.GroupArtifact;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+import org.openrewrite.xml.tree.Xml;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.stream.Collectors.toSet;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.maven.Assertions.pomXml;
+import static org.openrewrite.test.RewriteTest.toRecipe;
+
+class RemoveRedundantBomVersionsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(toRecipe(() -> new RemoveRedundantBomVersions(new HashSet<>(List.of(
+          new GroupArtifact("junit", "junit"),
+          new GroupArtifact("com.google.guava", "guava"),
+          new GroupArtifact("org.slf4j", "slf4j-api")
+        )))));
+    }
+
+    @Test
+    void shouldRemoveOnlyVersionsMatchingManagedVersions() {
+        // language=xml
+        rewriteRun(
+          pomXml(
+            """
+              <project>
+                  <groupId>org.example</groupId>
+                  <artifactId>example</artifactId>
+                  <version>1.0</version>
+                  <properties>
+                      <slf4j.version>2.0.13</slf4j.version>
+                  </properties>
+                  <dependencyManagement>
+                      <dependencies>
+                          <dependency>
+                              <groupId>junit</groupId>
+                              <artifactId>junit</artifactId>
+                              <version>4.13.2</version>
+                          </dependency>
+                          <dependency>
+                              <groupId>com.google.guava</groupId>
+                              <artifactId>guava</artifactId>
+                              <version>33.0.0-jre</version>
+                          </dependency>
+                          <dependency>
+                              <groupId>org.slf4j</groupId>
+                              <artifactId>slf4j-api</artifactId>
+                              <version>2.0.13</version>
+                          </dependency>
+                          <dependency>
+                              <groupId>org.apache.commons</groupId>
+                              <artifactId>commons-lang3</artifactId>
+                              <version>3.14.0</version>
+                          </dependency>
+                      </dependencies>
+                  </dependencyManagement>
+                  <dependencies>
+                      <dependency>
+                          <groupId>junit</groupId>
+                          <artifactId>junit</artifactId>
+                          <version>4.13.2</version>
+                      </dependency>
+                      <dependency>
+                          <groupId>com.google.guava</groupId>
+                          <artifactId>guava</artifactId>
+                          <version>32.1.3-jre</version>
+                      </dependency>
+                      <dependency>
+                          <groupId>org.slf4j</groupId>
+                          <artifactId>slf4j-api</artifactId>
+                          <version>${slf4j.version}</version>
+                      </dependency>
+                      <dependency>
+                          <groupId>org.apache.commons</groupId>
+                          <artifactId>commons-lang3</artifactId>
+                          <version>3.14.0</version>
+                      </dependency>
+                  </dependencies>
+              </project>
+              """,
+            """
+              <project>
+                  <groupId>org.example</groupId>
+                  <artifactId>example</artifactId>
+                  <version>1.0</version>
+                  <properties>
+                      <slf4j.version>2.0.13</slf4j.version>
+                  </properties>
+                  <dependencyManagement>
+                      <dependencies>
+                          <dependency>
+                              <groupId>junit</groupId>
+                              <artifactId>junit</artifactId>
+                              <version>4.13.2</version>
+                          </dependency>
+                          <dependency>
+                              <groupId>com.google.guava</groupId>
+                              <artifactId>guava</artifactId>
+                              <version>33.0.0-jre</version>
+                          </dependency>
+                          <dependency>
+                              <groupId>org.slf4j</groupId>
+                              <artifactId>slf4j-api</artifactId>
+                              <version>2.0.13</version>
+                          </dependency>
+                          <dependency>
+                              <groupId>org.apache.commons</groupId>
+                              <artifactId>commons-lang3</artifactId>
+                              <version>3.14.0</version>
+                          </dependency>
+                      </dependencies>
+                  </dependencyManagement>
+                  <dependencies>
+                      <dependency>
+                          <groupId>junit</groupId>
+                          <artifactId>junit</artifactId>
+                      </dependency>
+                      <dependency>
+                          <groupId>com.google.guava</groupId>
+                          <artifactId>guava</artifactId>
+                          <version>32.1.3-jre</version>
+                      </dependency>
+                      <dependency>
+                          <groupId>org.slf4j</groupId>
+                          <artifactId>slf4j-api</artifactId>
+                      </dependency>
+                      <dependency>
+                          <groupId>org.apache.commons</groupId>
+                          <artifactId>commons-lang3</artifactId>
+                          <version>3.14.0</version>
+                      </dependency>
+                  </dependencies>
+              </project>
+              """
+          )
+        );
+    }
+
+    /**
+     * Netty modules all managed by netty-bom, to scale the number of bom-managed dependencies in a pom.
+     */
+    private static final List<String> NETTY_MODULES = List.of(
+      "netty-buffer", "netty-codec", "netty-codec-dns", "netty-codec-haproxy", "netty-codec-http",
+      "netty-codec-http2", "netty-codec-memcache", "netty-codec-mqtt", "netty-codec-redis", "netty-codec-smtp",
+      "netty-codec-socks", "netty-codec-stomp", "netty-codec-xml", "netty-common", "netty-handler",
+      "netty-handler-proxy", "netty-resolver", "netty-resolver-dns", "netty-resolver-dns-classes-macos",
+      "netty-transport", "netty-transport-classes-epoll", "netty-transport-classes-kqueue",
+      "netty-transport-native-unix-common", "netty-transport-sctp"
+    );
+
+    @Test
+    void shouldWalkPomOncePerVisitorInsteadOfOncePerDependency() {
+        Set<GroupArtifact> managed = NETTY_MODULES.stream()
+          .map(artifactId -> new GroupArtifact("io.netty", artifactId))
+          .collect(toSet());
+
+        // as AddPluginsBom did before, one RemoveRedundantDependencyVersions per bom-managed dependency
+        AtomicInteger perDependencyWalks = new AtomicInteger();
+        rewriteRun(
+          spec -> spec.recipe(toRecipe(() -> new MavenIsoVisitor<>() {
+              @Override
+              public Xml.Document visitDocument(Xml.Document document, ExecutionContext ctx) {
+                  for (GroupArtifact ga : managed) {
+                      doAfterVisit(counting(new RemoveRedundantDependencyVersions(
+                        ga.getGroupId(),
+                        ga.getArtifactId(),
+                        null,
+                        null).getVisitor(), perDependencyWalks));
+                  }
+                  return document;
+              }
+          })).cycles(1).expectedCyclesThatMakeChanges(1),
+          pomXml(nettyPom(true), nettyPom(false))
+        );
+
+        AtomicInteger fusedWalks = new AtomicInteger();
+        rewriteRun(
+          spec -> spec.recipe(toRecipe(() -> new MavenIsoVisitor<>() {
+              @Override
+              public Xml.Document visitDocument(Xml.Document document, ExecutionContext ctx) {
+                  doAfterVisit(counting(new RemoveRedundantBomVersions(managed), fusedWalks));
+                  return document;
+              }
+          })).cycles(1).expectedCyclesThatMakeChanges(1),
+          pomXml(nettyPom(true), nettyPom(false))
+        );
+
+        assertThat(perDependencyWalks.get()).isEqualTo(NETTY_MODULES.size());
+        assertThat(fusedWalks.get()).isEqualTo(1);
+    }
+
+    private static TreeVisitor<?, ExecutionContext> counting(TreeVisitor<?, ExecutionContext> visitor, AtomicInteger walks) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                walks.incrementAndGet();
+                return visitor.visit(tree, ctx);
+            }
+        };
+    }
+
+    private static String nettyPom(boolean withVersions) {
+        StringBuilder dependencies = new StringBuilder();
+        for (String artifactId : NETTY_MODULES) {
+            dependencies.append("""
+                      <dependency>
+                          <groupId>io.netty</groupId>
+                          <artifactId>%s</artifactId>
+              """.formatted(artifactId));
+            if (withVersions) {
+                dependencies.append("""
+                          <version>4.1.108.Final</version>
+              """);
+            }
+            dependencies.append("""
+                      </dependency>
+              """);
+        }
+        // language=xml
+        return """
+          <project>
+              <groupId>org.example</groupId>
+              <artifactId>example</artifactId>
+              <version>1.0</version>
+              <dependencyManagement>
+                  <dependencies>
+                      <dependency>
+                          <groupId>io.netty</groupId>
+                          <artifactId>netty-bom</artifactId>
+                          <version>4.1.108.Final</version>
+                          <type>pom</type>
+                          <scope>import</scope>
+                      </dependency>
+                  </dependencies>
+              </dependencyManagement>
+              <dependencies>
+          %s    </dependencies>
+          </project>
+          """.formatted(dependencies);
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.jenkins;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.openrewrite.maven.Assertions.pomXml;
+
+class ReplaceLibrariesWithApiPluginsTest implements RewriteTest {
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new ReplaceLibrariesWithApiPlugins(List.of(
+          new ReplaceLibrariesWithApiPlugins.ApiPlugin(
+            "io.jenkins.plugins",
+            "commons-text-api",
+            "1.9-5.v7ea_44fe6061c",
+            Set.of(new ReplaceLibrariesWithApiPlugin.Library("org.apache.commons", "commons-text"))
+          ),
+          new ReplaceLibrariesWithApiPlugins.ApiPlugin(
+            "io.jenkins.plugins",
+            "commons-lang3-api",
+            "3.17.0-84.vb_b_938040b_078",
+            Set.of(new ReplaceLibrariesWithApiPlugin.Library("org.apache.commons", "commons-lang3"))
+          )
+        )));
+    }
+
+    @DocumentExample
+    @Test
+    void shouldReplaceOnlyLibrariesPresent() {
+        rewriteRun(
+          //language=xml
+          pomXml(
+            """
+              <project>
+                  <parent>
+                      <groupId>org.jenkins-ci.plugins</groupId>
+                      <artifactId>plugin</artifactId>
+                      <version>4.86</version>
+                      <relativePath />
+                  </parent>
+                  <artifactId>foo</artifactId>
+
+                  <properties>
+                      <jenkins.version>2.440.3</jenkins.version>
+                  </properties>
+
+                  <dependencies>
+                      <dependency>
+                          <groupId>org.apache.commons</groupId>
+                          <artifactId>commons-lang3</artifactId>
+                          <version>3.12.0</version>
+                      </dependency>
+                  </dependencies>
+
+                  <repositories>
+                      <repository>
+                          <id>maven-central</id>
+                          <url>https://repo1.maven.org/maven2/</url>
+                      </repository>
+                      <repository>
+                          <id>repo.jenkins-ci.org</id>
+                          <url>https://repo.jenkins-ci.org/public/</url>
+                      </repository>
+                  </repositories>
+              </project>
+              """,
+            """
+              <project>
+                  <parent>
+                      <groupId>org.jenkins-ci.plugins</groupId>
+                      <artifactId>plugin</artifactId>
+                      <version>4.86</version>
+                      <relativePath />
+                  </parent>
+                  <artifactId>foo</artifactId>
+
+                  <properties>
+                      <jenkins.version>2.440.3</jenkins.version>
+                  </properties>
+
+                  <dependencies>
+                      <dependency>
+                          <groupId>io.jenkins.plugins</groupId>
+                          <artifactId>commons-lang3-api</artifactId>
+                          <version>3.17.0-84.vb_b_938040b_078</version>
+                      </dependency>
+                  </dependencies>
+
+                  <repositories>
+                      <repository>
+                          <id>maven-central</id>
+                          <url>https://repo1.maven.org/maven2/</url>
+                      </repository>
+                      <repository>
+                          <id>repo.jenkins-ci.org</id>
+                          <url>https://repo.jenkins-ci.org/public/</url>
+                      </repository>
+                  </repositories>
+              </project>
+              """
+          )
+        );
+    }
+
+    @Test
+    void shouldMatchSingleApiPluginRecipe() {
+        rewriteRun(spec -> spec.recipe(new ReplaceLibrariesWithApiPlugins(List.of(
+            new ReplaceLibrariesWithApiPlugins.ApiPlugin(
+              "io.jenkins.plugins",
+              "commons-text-api",
+              "1.9-5.v7ea_44fe6061c",
+              Set.of(new ReplaceLibrariesWithApiPlugin.Library("org.apache.commons", "commons-text"))
+            )))),
+          //language=xml
+          pomXml(
+            """
+              <project>
+                  <parent>
+                      <groupId>org.jenkins-ci.plugins</groupId>
+                      <artifactId>plugin</artifactId>
+                      <version>4.86</version>
+                      <relativePath />
+                  </parent>
+                  <artifactId>foo</artifactId>
+
+                  <properties>
+                      <jenkins.version>2.440.3</jenkins.version>
+                  </properties>
+
+                  <dependencies>
+                      <dependency>
+                          <groupId>org.apache.turbine</groupId>
+                          <artifactId>turbine</artifactId>
+                          <version>5.1</version>
+                      </dependency>
+                  </dependencies>
+
+                  <repositories>
+                      <repository>
+                          <id>maven-central</id>
+                          <url>https://repo1.maven.org/maven2/</url>
+                      </repository>
+                      <repository>
+                          <id>repo.jenkins-ci.org</id>
+                          <url>https://repo.jenkins-ci.org/public/</url>
+                      </repository>
+                  </repositories>
+              </project>
+              """,
+            """
+              <project>
+                  <parent>
+                      <groupId>org.jenkins-ci.plugins</groupId>
+                      <artifactId>plugin</artifactId>
+                      <version>4.86</version>
+                      <relativePath />
+                  </parent>
+                  <artifactId>foo</artifactId>
+
+                  <properties>
+                      <jenkins.version>2.440.3</jenkins.version>
+                  </properties>
+
+                  <dependencies>
+                      <dependency>
+                          <groupId>io.jenkins.plugins</groupId>
+                          <artifactId>commons-text-api</artifactId>
+                          <version>1.9-5.v7ea_44fe6061c</version>
+                      </dependency>
+                      <dependency>
+                          <groupId>org.apache.turbine</groupId>
+                          <artifactId>turbine</artifactId>
+                          <version>5.1</version>
+                          <exclusions>
+                              <exclusion>
+                                  <!-- brought in by io.jenkins.plugins:commons-text-api -->
+                                  <groupId>org.apache.commons</groupId>
+                                  <artifactId>commons-text</artifactId>
+                              </exclusion>
+                          </exclusions>
+                      </dependency>
+                  </dependencies>
+
+                  <repositories>
+                      <repository>
+                          <id>maven-central</id>
+                          <url>https://repo1.maven.org/maven2/</url>
+                      </repository>
+                      <repository>
+                          <id>repo.jenkins-ci.org</id>
+                          <url>https://repo.jenkins-ci.org/public/</url>
+                      </repository>
+                  </repositories>
+              </project>
+              """
+          )
+        );
+    }
+}
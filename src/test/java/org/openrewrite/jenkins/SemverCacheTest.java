@@ -0,0 +1,37 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.jenkins;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SemverCacheTest {
+
+    @Test
+    void shouldReuseComparatorForSameSpec() {
+        assertThat(SemverCache.validate("[1,)").getValue())
+          .isNotNull()
+          .isSameAs(SemverCache.validate("[1,)").getValue());
+        assertThat(SemverCache.validate("2.375.1").getValue().isValid(null, "2.375.1")).isTrue();
+    }
+
+    @Test
+    void shouldRememberInvalidSpecs() {
+        assertThat(SemverCache.validate("not a version").isValid()).isFalse();
+        assertThat(SemverCache.validate("not a version").isValid()).isFalse();
+    }
+}
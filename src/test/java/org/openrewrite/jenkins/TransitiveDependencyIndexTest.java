@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.jenkins;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.maven.tree.*;
+
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransitiveDependencyIndexTest {
+    private static final GroupArtifact LANG3 = new GroupArtifact("org.apache.commons", "commons-lang3");
+    private static final GroupArtifact TEXT = new GroupArtifact("org.apache.commons", "commons-text");
+
+    @Test
+    void shouldFindFirstOccurrenceOfEachLibrary() {
+        ResolvedDependency lang3 = dependency(LANG3, emptyList());
+        ResolvedDependency text = dependency(TEXT, emptyList(), dependency(LANG3, emptyList()));
+        ResolvedDependency middle = dependency(new GroupArtifact("org.example", "middle"), emptyList(), lang3);
+        ResolvedDependency direct = dependency(new GroupArtifact("org.example", "direct"), emptyList(), middle, text);
+
+        TransitiveDependencyIndex index = new TransitiveDependencyIndex(Set.of(LANG3, TEXT));
+        assertThat(index.find(direct, LANG3)).isSameAs(lang3);
+        assertThat(index.find(direct, TEXT)).isSameAs(text);
+        assertThat(index.find(direct, LANG3)).isSameAs(direct.findDependency("org.apache.commons", "commons-lang3"));
+        assertThat(index.pulledIn(direct)).isSameAs(index.pulledIn(direct));
+    }
+
+    @Test
+    void shouldSkipExcludedLibraries() {
+        ResolvedDependency middle = dependency(new GroupArtifact("org.example", "middle"), List.of(TEXT),
+          dependency(TEXT, emptyList()));
+        ResolvedDependency direct = dependency(new GroupArtifact("org.example", "direct"), emptyList(), middle);
+
+        TransitiveDependencyIndex index = new TransitiveDependencyIndex(Set.of(LANG3, TEXT));
+        assertThat(index.find(direct, TEXT)).isNull();
+        assertThat(index.find(direct, LANG3)).isNull();
+    }
+
+    @Test
+    void shouldFindDirectDependencyThatIsTheLibrary() {
+        ResolvedDependency direct = dependency(LANG3, emptyList());
+        assertThat(new TransitiveDependencyIndex(Set.of(LANG3)).find(direct, LANG3)).isSameAs(direct);
+    }
+
+    @Test
+    void shouldMatchLibrariesGivenAsGlobs() {
+        GroupArtifact commons = new GroupArtifact("org.apache.commons", "commons-*");
+        ResolvedDependency text = dependency(TEXT, emptyList());
+        ResolvedDependency direct = dependency(new GroupArtifact("org.example", "direct"), emptyList(), text);
+
+        TransitiveDependencyIndex index = new TransitiveDependencyIndex(Set.of(commons, LANG3));
+        assertThat(index.find(direct, commons)).isSameAs(text);
+        assertThat(index.find(direct, commons)).isSameAs(direct.findDependency("org.apache.commons", "commons-*"));
+        assertThat(index.find(direct, LANG3)).isNull();
+    }
+
+    private static ResolvedDependency dependency(GroupArtifact ga, List<GroupArtifact> exclusions, ResolvedDependency... dependencies) {
+        return ResolvedDependency.builder()
+          .gav(new ResolvedGroupArtifactVersion(null, ga.getGroupId(), ga.getArtifactId(), "1.0", null))
+          .requested(Dependency.builder()
+            .gav(new GroupArtifactVersion(ga.getGroupId(), ga.getArtifactId(), "1.0"))
+            .exclusions(exclusions)
+            .build())
+          .dependencies(List.of(dependencies))
+          .build();
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.jenkins;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.maven.Assertions.pomXml;
+
+class UpgradeVersionPropertiesTest implements RewriteTest {
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new UpgradeVersionProperties(Map.of(
+          "jenkins.version", "2.452.4",
+          "git.version", "5.2.0",
+          "ant.version", "500"
+        )));
+    }
+
+    @DocumentExample
+    @Test
+    void shouldUpgradeAllPropertiesBelowTheirMinimum() {
+        rewriteRun(pomXml(
+          """
+            <project>
+                <parent>
+                    <groupId>org.jenkins-ci.plugins</groupId>
+                    <artifactId>plugin</artifactId>
+                    <version>4.86</version>
+                    <relativePath/>
+                </parent>
+                <artifactId>example-plugin</artifactId>
+                <version>0.8-SNAPSHOT</version>
+                <properties>
+                    <jenkins.baseline>2.303</jenkins.baseline>
+                    <jenkins.version>${jenkins.baseline}.1</jenkins.version>
+                    <git.version>4.0.0</git.version>
+                    <ant.version>600</ant.version>
+                </properties>
+                <repositories>
+                    <repository>
+                        <id>repo.jenkins-ci.org</id>
+                        <url>http://repo.jenkins-ci.org/public/</url>
+                    </repository>
+                </repositories>
+            </project>
+            """,
+          """
+            <project>
+                <parent>
+                    <groupId>org.jenkins-ci.plugins</groupId>
+                    <artifactId>plugin</artifactId>
+                    <version>4.86</version>
+                    <relativePath/>
+                </parent>
+                <artifactId>example-plugin</artifactId>
+                <version>0.8-SNAPSHOT</version>
+                <properties>
+                    <jenkins.baseline>2.452</jenkins.baseline>
+                    <jenkins.version>${jenkins.baseline}.4</jenkins.version>
+                    <git.version>5.2.0</git.version>
+                    <ant.version>600</ant.version>
+                </properties>
+                <repositories>
+                    <repository>
+                        <id>repo.jenkins-ci.org</id>
+                        <url>http://repo.jenkins-ci.org/public/</url>
+                    </repository>
+                </repositories>
+            </project>
+            """));
+    }
+
+    @Test
+    void shouldNotChangePropertiesAtOrAboveTheirMinimum() {
+        rewriteRun(pomXml(
+          """
+            <project>
+                <parent>
+                    <groupId>org.jenkins-ci.plugins</groupId>
+                    <artifactId>plugin</artifactId>
+                    <version>4.86</version>
+                    <relativePath/>
+                </parent>
+                <artifactId>example-plugin</artifactId>
+                <version>0.8-SNAPSHOT</version>
+                <properties>
+                    <jenkins.version>2.462.1</jenkins.version>
+                    <git.version>5.2.0</git.version>
+                </properties>
+                <repositories>
+                    <repository>
+                        <id>repo.jenkins-ci.org</id>
+                        <url>http://repo.jenkins-ci.org/public/</url>
+                    </repository>
+                </repositories>
+            </project>
+            """));
+    }
+
+    @Test
+    void shouldRejectInvalidMinimumVersion() {
+        assertThat(new UpgradeVersionProperties(Map.of("jenkins.version", "not a version")).validate().isValid()).isFalse();
+    }
+}
@@ -15,11 +15,14 @@
  */
 package org.openrewrite.jenkins;
 
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openrewrite.DocumentExample;
 import org.openrewrite.test.RecipeSpec;
 import org.openrewrite.test.RewriteTest;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.openrewrite.maven.Assertions.pomXml;
 
 class UpgradeVersionPropertyTest implements RewriteTest {
@@ -28,6 +31,13 @@ class UpgradeVersionPropertyTest implements RewriteTest {
         spec.recipe(new UpgradeVersionProperty("jenkins.version", "2.452.4"));
     }
 
+    @BeforeEach
+    @AfterEach
+    void clearBomLineCache() {
+        // the cache is process-wide, no test may see or leave lines resolved by another
+        BomLineCache.INSTANCE.clear();
+    }
+
     @DocumentExample
     @Test
     void shouldUpgrade() {
@@ -272,6 +282,33 @@ class UpgradeVersionPropertyTest implements RewriteTest {
           ));
     }
 
+    @Test
+    void shouldUpgradePropertyOfAnyPom() {
+        rewriteRun(spec -> spec.recipe(new UpgradeVersionProperty("foo.version", "2.0")),
+          pomXml(
+            """
+              <project>
+                  <groupId>org.example</groupId>
+                  <artifactId>example-library</artifactId>
+                  <version>1.0</version>
+                  <properties>
+                      <foo.version>1.0</foo.version>
+                  </properties>
+              </project>
+              """,
+            """
+              <project>
+                  <groupId>org.example</groupId>
+                  <artifactId>example-library</artifactId>
+                  <version>1.0</version>
+                  <properties>
+                      <foo.version>2.0</foo.version>
+                  </properties>
+              </project>
+              """
+          ));
+    }
+
     @Test
     void shouldNotDowngrade() {
         rewriteRun(pomXml(
@@ -297,4 +334,54 @@ class UpgradeVersionPropertyTest implements RewriteTest {
             </project>
             """));
     }
+
+    @Test
+    void shouldPickBomForUpgradedBaseline() {
+        // a line resolved for the old baseline earlier in the process must not be pinned onto the new one
+        ManagedVersions.LineBuilder oldLine = new ManagedVersions.LineBuilder("bom-2.303.x", "1500.ve4d05cd32975");
+        oldLine.add("org.jenkins-ci.plugins:ant", "1.9");
+        BomLineCache.INSTANCE.put(oldLine.build());
+        rewriteRun(pomXml(
+          """
+            <project>
+                <parent>
+                    <groupId>org.jenkins-ci.plugins</groupId>
+                    <artifactId>plugin</artifactId>
+                    <version>4.86</version>
+                    <relativePath/>
+                </parent>
+                <artifactId>example-plugin</artifactId>
+                <version>0.8-SNAPSHOT</version>
+                <properties>
+                    <jenkins.baseline>2.303</jenkins.baseline>
+                    <jenkins.version>${jenkins.baseline}.1</jenkins.version>
+                </properties>
+                <repositories>
+                    <repository>
+                        <id>maven-central</id>
+                        <url>https://repo1.maven.org/maven2/</url>
+                    </repository>
+                    <repository>
+                        <id>repo.jenkins-ci.org</id>
+                        <url>https://repo.jenkins-ci.org/public/</url>
+                    </repository>
+                </repositories>
+                <dependencies>
+                    <dependency>
+                        <groupId>org.jenkins-ci.plugins</groupId>
+                        <artifactId>ant</artifactId>
+                        <version>1.9</version>
+                    </dependency>
+                </dependencies>
+            </project>
+            """,
+          spec -> spec.after(after -> {
+              ModernizePluginTest.Versions versionsAfter = ModernizePluginTest.Versions.parse(after);
+              assertThat(after).contains("<jenkins.baseline>2.452</jenkins.baseline>");
+              assertThat(versionsAfter.bomArtifactId()).isEqualTo("bom-${jenkins.baseline}.x");
+              assertThat(versionsAfter.bomVersion()).isNotEqualTo("1500.ve4d05cd32975");
+              return after;
+          })
+        ));
+    }
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.jenkins.internal;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.xml.XmlParser;
+import org.openrewrite.xml.tree.Xml;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PomTagsTest {
+
+    @Test
+    void readsOnlyTopLevelTags() {
+        PomTags tags = PomTags.of(parse("""
+          <project>
+              <parent>
+                  <groupId>org.jenkins-ci.plugins</groupId>
+                  <artifactId>plugin</artifactId>
+                  <version>4.86</version>
+              </parent>
+              <artifactId>my-plugin</artifactId>
+              <description>This is my plugin</description>
+              <dependencies>
+                  <dependency>
+                      <groupId>org.jenkins-ci.plugins</groupId>
+                      <artifactId>git</artifactId>
+                  </dependency>
+              </dependencies>
+              <licenses>
+                  <license>
+                      <description>Not the plugin's description</description>
+                  </license>
+              </licenses>
+          </project>
+          """));
+        assertThat(tags.getArtifactId()).isEqualTo("my-plugin");
+        assertThat(tags.getDescription()).isEqualTo("This is my plugin");
+    }
+
+    @Test
+    void missingTagsAreEmpty() {
+        PomTags tags = PomTags.of(parse("""
+          <project>
+              <parent>
+                  <artifactId>plugin</artifactId>
+              </parent>
+              <description/>
+          </project>
+          """));
+        assertThat(tags.getArtifactId()).isEmpty();
+        assertThat(tags.getDescription()).isEmpty();
+        assertThat(PomTags.of(parse("<project/>")).getArtifactId()).isEmpty();
+    }
+
+    @Test
+    void emptyArtifactIdIsAnError() {
+        assertThatThrownBy(() -> PomTags.of(parse("<project><artifactId/></project>")))
+          .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static Xml.Document parse(String pom) {
+        return XmlParser.builder().build().parse(pom).findFirst()
+          .map(Xml.Document.class::cast)
+          .orElseThrow();
+    }
+}